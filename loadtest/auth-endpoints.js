@@ -0,0 +1,47 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERNAME = __ENV.USERNAME || 'loadtest';
+// With USER_COUNT > 1, logins rotate over USERNAME0..USERNAME{n-1}, which must exist with PASSWORD.
+const USER_COUNT = Number(__ENV.USER_COUNT || 1);
+const PASSWORD = __ENV.PASSWORD || 'loadtest';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        login: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: Number(__ENV.LOGIN_RATE || 50),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '1m',
+            preAllocatedVUs: 200,
+        },
+        existName: {
+            executor: 'constant-arrival-rate',
+            exec: 'existName',
+            rate: Number(__ENV.EXIST_RATE || 500),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '1m',
+            preAllocatedVUs: 200,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function login() {
+    const username = USER_COUNT > 1 ? `${USERNAME}${(__VU * 7919 + __ITER) % USER_COUNT}` : USERNAME;
+    const res = http.post(`${BASE_URL}/api/v1/users/login`,
+        JSON.stringify({ username, password: PASSWORD }), JSON_HEADERS);
+    check(res, {
+        'login 200': (r) => r.status === 200,
+        'login not rate-limited': (r) => r.status !== 429,
+    });
+}
+
+export function existName() {
+    const res = http.post(`${BASE_URL}/api/v1/users/exist/name`,
+        JSON.stringify({ username: `candidate-${__VU}-${__ITER}` }), JSON_HEADERS);
+    check(res, { 'exist/name answered': (r) => r.status !== 0 && r.status < 500 });
+}
@@ -0,0 +1,52 @@
+package com.nowgnodeel.todobe.auth.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"10000", "0"})
+    private long claimsCacheMaxSize;
+
+    private JwtAuthenticationFilter filter;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider provider = JwtFixtures.tokenProvider(claimsCacheMaxSize);
+        filter = new JwtAuthenticationFilter(provider, mock(TokenReissuer.class), JwtFixtures.AUTH_METRICS);
+        bearerToken = provider.createAccessToken(JwtFixtures.PRINCIPAL);
+    }
+
+    @Benchmark
+    public int authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/todos");
+        request.addHeader(JwtTokenProvider.ACCESS_TOKEN, bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int invalidTokenRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/todos");
+        request.addHeader(JwtTokenProvider.ACCESS_TOKEN, bearerToken + "x");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
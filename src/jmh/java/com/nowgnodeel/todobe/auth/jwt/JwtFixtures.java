@@ -0,0 +1,36 @@
+package com.nowgnodeel.todobe.auth.jwt;
+
+import com.nowgnodeel.todobe.auth.common.Role;
+import com.nowgnodeel.todobe.auth.config.security.UserDetailsImpl;
+import com.nowgnodeel.todobe.auth.config.security.UserDetailsServiceImpl;
+import com.nowgnodeel.todobe.auth.config.security.UserTokenVersionRegistry;
+import com.nowgnodeel.todobe.global.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.mockito.Mockito.mock;
+
+final class JwtFixtures {
+
+    static final AuthMetrics AUTH_METRICS = new AuthMetrics(new SimpleMeterRegistry());
+    static final UserDetailsImpl PRINCIPAL = new UserDetailsImpl(1L, "bench-user", null, Role.USER, 0L);
+
+    private JwtFixtures() {
+    }
+
+    static JwtTokenProvider tokenProvider(long claimsCacheMaxSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(mock(UserDetailsServiceImpl.class), new UserTokenVersionRegistry(100_000, 3_600_000),
+                new RefreshTokenRevocationStore(), AUTH_METRICS);
+        ReflectionTestUtils.setField(provider, "secretKeyBase64", Base64.getEncoder().encodeToString(new byte[64]));
+        ReflectionTestUtils.setField(provider, "issuer", "nowgnodeel");
+        ReflectionTestUtils.setField(provider, "accessValidityMs", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshValidityMs", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "statelessPrincipal", true);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", claimsCacheMaxSize);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxTtlMs", 60_000L);
+        provider.init();
+        return provider;
+    }
+}
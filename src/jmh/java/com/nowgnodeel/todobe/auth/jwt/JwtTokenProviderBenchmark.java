@@ -0,0 +1,61 @@
+package com.nowgnodeel.todobe.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"10000", "0"})
+    private long claimsCacheMaxSize;
+
+    private JwtTokenProvider provider;
+    private String bearerToken;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        provider = JwtFixtures.tokenProvider(claimsCacheMaxSize);
+        bearerToken = provider.createAccessToken(JwtFixtures.PRINCIPAL);
+        request = new MockHttpServletRequest();
+        request.addHeader(JwtTokenProvider.ACCESS_TOKEN, bearerToken);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return provider.createAccessToken(JwtFixtures.PRINCIPAL);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return provider.parse(bearerToken);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(bearerToken);
+    }
+
+    @Benchmark
+    public String getUserInfo() {
+        return provider.getUserInfo(bearerToken);
+    }
+
+    @Benchmark
+    public String getToken() {
+        return provider.getToken(request, JwtTokenProvider.ACCESS_TOKEN);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse setHeaderAccessToken() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        provider.setHeaderAccessToken(response, bearerToken);
+        return response;
+    }
+}
@@ -0,0 +1,52 @@
+package com.nowgnodeel.todobe.auth.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nowgnodeel.todobe.auth.config.Handler.SecurityErrorWriter;
+import com.nowgnodeel.todobe.auth.dto.validation.SecurityExceptionDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SecurityHotPathAllocationBenchmark {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private String header;
+
+    @Setup
+    public void setUp() {
+        header = JwtFixtures.tokenProvider(0).createAccessToken(JwtFixtures.PRINCIPAL);
+    }
+
+    @Benchmark
+    public String stripBearerLegacy() {
+        String trimmed = header.trim();
+        return trimmed.startsWith(BEARER_PREFIX) ? trimmed.substring(BEARER_PREFIX.length()).trim() : trimmed;
+    }
+
+    @Benchmark
+    public String stripBearer() {
+        return JwtTokenProvider.stripBearer(header);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse writeErrorLegacy() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(401);
+        response.setContentType("application/json");
+        String json = new ObjectMapper().writeValueAsString(SecurityExceptionDto.builder().statusCode(401).msg("Invalid Access Token.").build());
+        response.getWriter().write(json);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse writeError() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        SecurityErrorWriter.write(response, 401, "Invalid Access Token.");
+        return response;
+    }
+}
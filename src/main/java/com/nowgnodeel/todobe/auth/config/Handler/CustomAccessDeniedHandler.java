@@ -1,7 +1,5 @@
 package com.nowgnodeel.todobe.auth.config.Handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.nowgnodeel.todobe.auth.dto.validation.SecurityExceptionDto;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,12 +16,6 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
             response.sendRedirect(referer);
             return;
         }
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        response.setContentType("application/json");
-        String json = new ObjectMapper().writeValueAsString(SecurityExceptionDto.builder()
-                .statusCode(HttpServletResponse.SC_FORBIDDEN)
-                .msg("Access Denied")
-                .build());
-        response.getWriter().write(json);
+        SecurityErrorWriter.write(response, HttpServletResponse.SC_FORBIDDEN, "Access Denied");
     }
 }
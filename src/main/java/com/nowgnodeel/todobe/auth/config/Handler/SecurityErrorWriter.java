@@ -0,0 +1,41 @@
+package com.nowgnodeel.todobe.auth.config.Handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.nowgnodeel.todobe.auth.dto.validation.SecurityExceptionDto;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class SecurityErrorWriter {
+
+    private static final ObjectWriter WRITER = new ObjectMapper().writerFor(SecurityExceptionDto.class);
+    private static final int MAX_CACHED_BODIES = 64;
+    private static final ConcurrentMap<String, CachedBody> BODIES = new ConcurrentHashMap<>();
+
+    private SecurityErrorWriter() {
+    }
+
+    public static void write(HttpServletResponse response, int statusCode, String msg) throws IOException {
+        byte[] body = body(statusCode, msg);
+        response.setStatus(statusCode);
+        response.setContentType("application/json");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    static byte[] body(int statusCode, String msg) throws IOException {
+        CachedBody cached = BODIES.get(msg);
+        if (cached != null && cached.statusCode == statusCode) return cached.bytes;
+        byte[] bytes = WRITER.writeValueAsBytes(SecurityExceptionDto.builder().statusCode(statusCode).msg(msg).build());
+        if (cached == null && BODIES.size() < MAX_CACHED_BODIES) {
+            BODIES.putIfAbsent(msg, new CachedBody(statusCode, bytes));
+        }
+        return bytes;
+    }
+
+    private record CachedBody(int statusCode, byte[] bytes) {
+    }
+}
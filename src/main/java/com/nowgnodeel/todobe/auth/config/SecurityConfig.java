@@ -1,19 +1,29 @@
 package com.nowgnodeel.todobe.auth.config;
 
 import com.nowgnodeel.todobe.auth.config.Handler.CustomAccessDeniedHandler;
+import com.nowgnodeel.todobe.auth.config.ratelimit.RateLimitFilter;
+import com.nowgnodeel.todobe.auth.config.ratelimit.RateLimitStore;
+import com.nowgnodeel.todobe.auth.config.security.BCryptStrengthCalibrator;
 import com.nowgnodeel.todobe.auth.jwt.JwtAuthenticationFilter;
 import com.nowgnodeel.todobe.auth.jwt.JwtTokenProvider;
-import com.nowgnodeel.todobe.auth.repository.UserRepository;
+import com.nowgnodeel.todobe.auth.jwt.TokenReissuer;
+import com.nowgnodeel.todobe.global.metrics.AuthMetrics;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
@@ -22,15 +32,65 @@ import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
 import org.springframework.security.web.header.writers.frameoptions.XFrameOptionsHeaderWriter;
 import org.springframework.web.cors.CorsConfiguration;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final TokenReissuer tokenReissuer;
+    private final AuthMetrics authMetrics;
+    private final RateLimitStore rateLimitStore;
+
+    @Value("${rateLimit.ip.capacity:20}")
+    private int rateLimitIpCapacity;
+
+    @Value("${rateLimit.ip.refillPerSecond:1}")
+    private double rateLimitIpRefillPerSecond;
+
+    @Value("${rateLimit.user.capacity:5}")
+    private int rateLimitUserCapacity;
+
+    @Value("${rateLimit.user.refillPerSecond:0.1}")
+    private double rateLimitUserRefillPerSecond;
+
+    @Value("${password.encoder.id:bcrypt}")
+    private String encoderId;
+
+    @Value("${password.encoder.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password.encoder.bcrypt.calibrate:false}")
+    private boolean bcryptCalibrate;
+
+    @Value("${password.encoder.bcrypt.targetMillis:250}")
+    private long bcryptTargetMillis;
+
+    @Value("${password.encoder.argon2.saltLength:16}")
+    private int argon2SaltLength;
+
+    @Value("${password.encoder.argon2.hashLength:32}")
+    private int argon2HashLength;
+
+    @Value("${password.encoder.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    @Value("${password.encoder.argon2.memoryKb:19456}")
+    private int argon2MemoryKb;
+
+    @Value("${password.encoder.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${password.encoder.pbkdf2.saltLength:16}")
+    private int pbkdf2SaltLength;
+
+    @Value("${password.encoder.pbkdf2.iterations:600000}")
+    private int pbkdf2Iterations;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -54,8 +114,11 @@ public class SecurityConfig {
                 }))
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/users/login").permitAll()
                         .requestMatchers("/api/v1/users/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/todos/stream").permitAll()
+                        .requestMatchers("/api/v1/todos/**").authenticated()
                         .anyRequest().permitAll()
                 )
                 .exceptionHandling(ex -> ex
@@ -63,13 +126,31 @@ public class SecurityConfig {
                         .authenticationEntryPoint((req, res, e) -> res.sendError(HttpServletResponse.SC_UNAUTHORIZED))
                 )
                 .addFilterAfter(new com.nowgnodeel.todobe.auth.config.CsrfCookieFilter(), CsrfFilter.class)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userRepository), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new RateLimitFilter(rateLimitStore, jwtTokenProvider,
+                        rateLimitIpCapacity, rateLimitIpRefillPerSecond,
+                        rateLimitUserCapacity, rateLimitUserRefillPerSecond), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenReissuer, authMetrics), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = bcryptCalibrate ? BCryptStrengthCalibrator.calibrate(bcryptStrength, bcryptTargetMillis) : bcryptStrength;
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("argon2", new Argon2PasswordEncoder(argon2SaltLength, argon2HashLength, argon2Parallelism, argon2MemoryKb, argon2Iterations));
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder("", pbkdf2SaltLength, pbkdf2Iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+        if (!encoders.containsKey(encoderId)) {
+            throw new IllegalStateException("Unknown password encoder id: " + encoderId);
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encoderId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        log.info("Password encoder initialized. id={}, bcryptStrength={}", encoderId, strength);
+        return delegating;
     }
 }
@@ -0,0 +1,44 @@
+package com.nowgnodeel.todobe.auth.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public LocalRateLimitStore(long maxKeys, long idleMillis) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(idleMillis))
+                .build();
+    }
+
+    // GCRA: each bucket is a single "theoretical arrival time", so a token is taken with one CAS.
+    @Override
+    public long tryConsume(String key, int capacity, double refillPerSecond) {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        long tolerance = interval * capacity;
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long next = Math.max(current == Long.MIN_VALUE ? now : current, now) + interval;
+            long allowAt = next - tolerance;
+            if (allowAt > now) {
+                return TimeUnit.NANOSECONDS.toMillis(allowAt - now) + 1;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,17 @@
+package com.nowgnodeel.todobe.auth.config.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "rateLimit.store", havingValue = "local", matchIfMissing = true)
+    public RateLimitStore rateLimitStore(@Value("${rateLimit.maxKeys:100000}") long maxKeys,
+                                         @Value("${rateLimit.idleMillis:600000}") long idleMillis) {
+        return new LocalRateLimitStore(maxKeys, idleMillis);
+    }
+}
@@ -0,0 +1,113 @@
+package com.nowgnodeel.todobe.auth.config.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nowgnodeel.todobe.auth.config.Handler.SecurityErrorWriter;
+import com.nowgnodeel.todobe.auth.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import static com.nowgnodeel.todobe.auth.jwt.JwtTokenProvider.REFRESH_TOKEN;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_URI = "/api/v1/users/login";
+    private static final String REISSUE_URI = "/api/v1/reissue";
+    private static final int MAX_BODY_BYTES = 4096;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final RateLimitStore rateLimitStore;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int ipCapacity;
+    private final double ipRefillPerSecond;
+    private final int userCapacity;
+    private final double userRefillPerSecond;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !(REISSUE_URI.equals(uri) || (LOGIN_URI.equals(uri) && HttpMethod.POST.matches(request.getMethod())));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean login = LOGIN_URI.equals(request.getRequestURI());
+        String scope = login ? "login" : "reissue";
+
+        long waitMillis = rateLimitStore.tryConsume(scope + ":ip:" + request.getRemoteAddr(), ipCapacity, ipRefillPerSecond);
+        if (waitMillis > 0) {
+            reject(response, waitMillis);
+            return;
+        }
+
+        HttpServletRequest forwarded = request;
+        String username;
+        if (login) {
+            if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+                writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large.");
+                return;
+            }
+            CachedBodyRequestWrapper wrapper = new CachedBodyRequestWrapper(request, MAX_BODY_BYTES);
+            if (wrapper.isOverflowed()) {
+                writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large.");
+                return;
+            }
+            forwarded = wrapper;
+            username = readUsername(wrapper.getBody());
+        } else {
+            String refreshToken = jwtTokenProvider.getToken(request, REFRESH_TOKEN);
+            Claims claims = StringUtils.hasText(refreshToken) ? jwtTokenProvider.parse(refreshToken) : null;
+            username = claims == null ? null : claims.getSubject();
+        }
+
+        if (StringUtils.hasText(username)) {
+            String key = scope + ":user:" + username.trim().toLowerCase(Locale.ROOT);
+            waitMillis = rateLimitStore.tryConsume(key, userCapacity, userRefillPerSecond);
+            if (waitMillis > 0) {
+                reject(response, waitMillis);
+                return;
+            }
+        }
+
+        chain.doFilter(forwarded, response);
+    }
+
+    private String readUsername(byte[] body) {
+        if (body.length == 0) return null;
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(body).get("username");
+            return node != null && node.isTextual() ? node.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitMillis) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests.");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String msg) {
+        try {
+            SecurityErrorWriter.write(response, status.value(), msg);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+        }
+    }
+}
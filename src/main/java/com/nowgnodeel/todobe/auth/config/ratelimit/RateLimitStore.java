@@ -0,0 +1,6 @@
+package com.nowgnodeel.todobe.auth.config.ratelimit;
+
+public interface RateLimitStore {
+
+    long tryConsume(String key, int capacity, double refillPerSecond);
+}
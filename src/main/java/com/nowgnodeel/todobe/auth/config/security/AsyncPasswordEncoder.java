@@ -0,0 +1,77 @@
+package com.nowgnodeel.todobe.auth.config.security;
+
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import com.nowgnodeel.todobe.global.metrics.AuthMetrics;
+import com.nowgnodeel.todobe.global.metrics.RequestStages;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class AsyncPasswordEncoder {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final AuthMetrics authMetrics;
+
+    public AsyncPasswordEncoder(PasswordEncoder passwordEncoder,
+                                AuthMetrics authMetrics,
+                                @Value("${password.executor.threads:0}") int threads,
+                                @Value("${password.executor.queueCapacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.authMetrics = authMetrics;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing executor initialized. threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(true, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(false, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(boolean encode, Supplier<T> task) {
+        long submittedNanos = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                authMetrics.recordPasswordQueue(submittedNanos);
+                long startNanos = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    authMetrics.recordPassword(encode, startNanos);
+                }
+            }, command -> executor.execute(RequestStages.wrap(command)));
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full. active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
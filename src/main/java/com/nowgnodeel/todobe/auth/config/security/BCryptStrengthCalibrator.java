@@ -0,0 +1,41 @@
+package com.nowgnodeel.todobe.auth.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final int MAX_STRENGTH = 16;
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(int minStrength, long targetMillis) {
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= MAX_STRENGTH; strength++) {
+            long elapsedMillis = measure(strength);
+            log.info("BCrypt calibration. strength={}, elapsedMs={}", strength, elapsedMillis);
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            chosen = strength;
+        }
+        log.info("BCrypt strength calibrated. targetMs={}, strength={}", targetMillis, chosen);
+        return chosen;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000;
+    }
+}
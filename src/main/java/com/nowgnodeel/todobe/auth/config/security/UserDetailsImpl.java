@@ -1,5 +1,6 @@
 package com.nowgnodeel.todobe.auth.config.security;
 
+import com.nowgnodeel.todobe.auth.common.Role;
 import com.nowgnodeel.todobe.auth.entity.User;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -14,21 +15,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final Role role;
+    private final long tokenVersion;
+
+    public UserDetailsImpl(User user) {
+        this(user.getId(), user.getUsername(), user.getPassword(), user.getRole(), user.getTokenVersion());
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     @Override
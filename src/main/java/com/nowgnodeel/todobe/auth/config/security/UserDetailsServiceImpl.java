@@ -1,23 +1,26 @@
 package com.nowgnodeel.todobe.auth.config.security;
 
-import com.nowgnodeel.todobe.auth.entity.User;
-import com.nowgnodeel.todobe.auth.repository.UserRepository;
+import com.nowgnodeel.todobe.global.metrics.AuthMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final AuthMetrics authMetrics;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
-        return new UserDetailsImpl(user);
+        long startNanos = System.nanoTime();
+        Optional<UserDetailsImpl> principal = userPrincipalCache.find(username);
+        authMetrics.recordUserLoad(principal.isPresent(), startNanos);
+        return principal.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
     }
 }
@@ -0,0 +1,84 @@
+package com.nowgnodeel.todobe.auth.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nowgnodeel.todobe.auth.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Caches principals for token authentication only. Cached entries carry no password hash, since an entry
+ * on another node can outlive a password change by the full TTL; credential checks go through
+ * {@link #findWithCredentials}.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final UserTokenVersionRegistry userTokenVersionRegistry;
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              UserTokenVersionRegistry userTokenVersionRegistry,
+                              @Value("${user.cache.maxSize:10000}") long maxSize,
+                              @Value("${user.cache.ttlMillis:300000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.userTokenVersionRegistry = userTokenVersionRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserDetailsImpl> find(String username) {
+        return Optional.ofNullable(cache.get(username, this::load));
+    }
+
+    public Optional<UserDetailsImpl> findWithCredentials(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> {
+                    userTokenVersionRegistry.record(user.getUsername(), user.getTokenVersion());
+                    return new UserDetailsImpl(user);
+                });
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    public void evictAfterCommit(String username) {
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private UserDetailsImpl load(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> {
+                    userTokenVersionRegistry.record(user.getUsername(), user.getTokenVersion());
+                    return new UserDetailsImpl(user.getId(), user.getUsername(), null, user.getRole(), user.getTokenVersion());
+                })
+                .orElse(null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.nowgnodeel.todobe.auth.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Latest token version seen by this node. Revocation through this registry only holds on the node
+ * that recorded the bump; entries expire after the access token lifetime, by which point every token
+ * issued before the bump has expired as well.
+ */
+@Component
+public class UserTokenVersionRegistry {
+
+    private final Cache<String, Long> versions;
+
+    public UserTokenVersionRegistry(@Value("${user.tokenVersion.maxSize:100000}") long maxSize,
+                                    @Value("${jwt.accessMillis:3600000}") long accessValidityMs) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(accessValidityMs))
+                .build();
+    }
+
+    public void record(String username, long tokenVersion) {
+        versions.asMap().merge(username, tokenVersion, Math::max);
+    }
+
+    public boolean isStale(String username, long tokenVersion) {
+        Long current = versions.getIfPresent(username);
+        return current != null && tokenVersion < current;
+    }
+
+    public void remove(String username) {
+        versions.invalidate(username);
+    }
+}
@@ -3,7 +3,7 @@ package com.nowgnodeel.todobe.auth.controller;
 import com.nowgnodeel.todobe.auth.dto.*;
 import com.nowgnodeel.todobe.auth.service.UserService;
 import com.nowgnodeel.todobe.auth.config.security.UserDetailsImpl;
-import jakarta.servlet.http.HttpServletResponse;
+import com.nowgnodeel.todobe.auth.jwt.JwtTokenProvider;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -11,6 +11,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/users")
@@ -19,21 +21,28 @@ public class UserController {
     private final UserService userService;
 
     @PostMapping("/join")
-    public ResponseEntity<UserJoinResponseDto> join(@RequestBody @Valid UserJoinRequestDto requestDto) {
-        UserJoinResponseDto created = userService.create(requestDto);
-        return ResponseEntity.status(HttpStatus.OK).body(created);
+    public CompletableFuture<ResponseEntity<UserJoinResponseDto>> join(@RequestBody @Valid UserJoinRequestDto requestDto) {
+        return userService.create(requestDto)
+                .thenApply(created -> ResponseEntity.status(HttpStatus.OK).body(created));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<UserLoginResponseDto> login(@RequestBody UserLoginRequestDto requestDto, HttpServletResponse response) {
-        UserLoginResponseDto responseDto = userService.login(requestDto, response);
-        return ResponseEntity.status(HttpStatus.OK).body(responseDto);
+    public CompletableFuture<ResponseEntity<UserLoginResponseDto>> login(@RequestBody UserLoginRequestDto requestDto) {
+        return userService.login(requestDto)
+                .thenApply(jwsDto -> ResponseEntity.status(HttpStatus.OK)
+                        .header(JwtTokenProvider.ACCESS_TOKEN, jwsDto.getAccessToken())
+                        .header(JwtTokenProvider.REFRESH_TOKEN, jwsDto.getRefreshToken())
+                        .body(UserLoginResponseDto.builder().msg("로그인 완료").build()));
     }
 
     @PostMapping("/reissue")
-    public ResponseEntity<UserReissueResponseDto> checkRefreshToken() {
-        UserReissueResponseDto responseDto = userService.reissue();
-        return ResponseEntity.status(HttpStatus.OK).body(responseDto);
+    public ResponseEntity<UserReissueResponseDto> checkRefreshToken(@RequestHeader(value = JwtTokenProvider.REFRESH_TOKEN, required = false) String refreshToken,
+                                                                    @RequestHeader(value = JwtTokenProvider.ACCESS_TOKEN, required = false) String accessToken) {
+        JwsDto jwsDto = userService.reissue(refreshToken, accessToken);
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(JwtTokenProvider.ACCESS_TOKEN, jwsDto.getAccessToken())
+                .header(JwtTokenProvider.REFRESH_TOKEN, jwsDto.getRefreshToken())
+                .body(UserReissueResponseDto.builder().msg("refresh token reissue complete").build());
     }
 
     @PostMapping("/exist/name")
@@ -43,14 +52,24 @@ public class UserController {
     }
 
     @PostMapping("/user/verification")
-    public ResponseEntity<UserVerificationResponseDto> checkVerification(@RequestBody UserVerificationRequestDto requestDTO, @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        UserVerificationResponseDto responseDTO = userService.checkVerification(requestDTO, userDetails);
-        return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
+    public CompletableFuture<ResponseEntity<UserVerificationResponseDto>> checkVerification(@RequestBody UserVerificationRequestDto requestDTO, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return userService.checkVerification(requestDTO, userDetails)
+                .thenApply(responseDTO -> ResponseEntity.status(HttpStatus.OK).body(responseDTO));
     }
 
     @PostMapping("/user/update")
-    public ResponseEntity<UserInformationResponseDto> updatePersonalInformation(@RequestBody UserInformationRequestDto requestDTO, @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        UserInformationResponseDto responseDTO = userService.updatePersonalInformation(requestDTO, userDetails);
-        return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
+    public CompletableFuture<ResponseEntity<UserInformationResponseDto>> updatePersonalInformation(@RequestBody UserInformationRequestDto requestDTO, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return userService.updatePersonalInformation(requestDTO, userDetails)
+                .thenApply(responseDTO -> ResponseEntity.status(HttpStatus.OK).body(responseDTO));
+    }
+
+    @DeleteMapping("/user")
+    public ResponseEntity<UserDeleteResponseDto> delete(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(userService.delete(userDetails));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<UserCacheStatsResponseDto> getCacheStats() {
+        return ResponseEntity.ok(userService.getCacheStats());
     }
 }
@@ -0,0 +1,14 @@
+package com.nowgnodeel.todobe.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDeleteResponseDto {
+    private String message;
+}
@@ -7,12 +7,14 @@ import com.nowgnodeel.todobe.global.entity.Timestamped;
 import com.nowgnodeel.todobe.todo.entity.Todo;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -46,12 +48,19 @@ public class User extends Timestamped {
     @Column(nullable = false)
     private Role role;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    @Column(nullable = false)
+    private long tokenVersion;
+
+    @Column(nullable = false)
+    private long todoVersion;
+
+    @OneToMany(mappedBy = "user")
     private List<Todo> todos = new ArrayList<>();
 
     public void patch(UserInformationRequestDto dto, String encodedPassword) {
         if (dto.getPassword() != null && !dto.getPassword().isBlank()) {
             this.password = encodedPassword;
+            this.tokenVersion++;
         }
         if (dto.getNickname() != null && !dto.getNickname().isBlank()) {
             this.nickname = dto.getNickname();
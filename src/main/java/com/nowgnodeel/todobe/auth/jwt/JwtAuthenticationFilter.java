@@ -1,12 +1,15 @@
 package com.nowgnodeel.todobe.auth.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.nowgnodeel.todobe.auth.dto.validation.SecurityExceptionDto;
-import com.nowgnodeel.todobe.auth.repository.UserRepository;
+import com.nowgnodeel.todobe.auth.config.Handler.SecurityErrorWriter;
+import com.nowgnodeel.todobe.auth.dto.JwsDto;
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import com.nowgnodeel.todobe.global.metrics.AuthMetrics;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -26,63 +29,62 @@ import static com.nowgnodeel.todobe.auth.jwt.JwtTokenProvider.REFRESH_TOKEN;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final TokenReissuer tokenReissuer;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
+        long startNanos = System.nanoTime();
         String uri = request.getRequestURI();
         String accessToken = jwtTokenProvider.getToken(request, ACCESS_TOKEN);
         String refreshToken = jwtTokenProvider.getToken(request, REFRESH_TOKEN);
 
         if ("/api/v1/reissue".equals(uri)) {
-            if (!StringUtils.hasText(refreshToken) || !jwtTokenProvider.validateToken(refreshToken)) {
-                writeError(response, "Invalid or missing refresh token.", HttpStatus.UNAUTHORIZED.value());
-                return;
-            }
-            String usernameFromRefresh = jwtTokenProvider.getUserInfo(refreshToken);
-            if (!StringUtils.hasText(usernameFromRefresh)) {
-                writeError(response, "Cannot extract subject from refresh token.", HttpStatus.UNAUTHORIZED.value());
-                return;
-            }
-            if (StringUtils.hasText(accessToken)) {
-                String usernameFromAccess = jwtTokenProvider.getUserInfo(accessToken);
-                if (StringUtils.hasText(usernameFromAccess) && !usernameFromRefresh.equals(usernameFromAccess)) {
-                    writeError(response, "Tokens belong to different users.", HttpStatus.UNAUTHORIZED.value());
-                    return;
-                }
+            try {
+                JwsDto reissued = tokenReissuer.reissue(refreshToken, accessToken);
+                response.setHeader(ACCESS_TOKEN, reissued.getAccessToken());
+                response.setHeader(REFRESH_TOKEN, reissued.getRefreshToken());
+                response.setStatus(HttpStatus.OK.value());
+                authMetrics.recordFilter(AuthMetrics.FILTER_REISSUED, startNanos);
+            } catch (ApiException e) {
+                authMetrics.recordFilter(AuthMetrics.FILTER_REISSUE_FAILED, startNanos);
+                writeError(response, e.getMessage(), e.getHttpStatus().value());
             }
-            userRepository.findByUsername(usernameFromRefresh).orElseThrow(() -> new IllegalArgumentException("User not found"));
-            String newAccess = jwtTokenProvider.createAccessToken(usernameFromRefresh);
-            response.setHeader(ACCESS_TOKEN, newAccess);
-            response.setStatus(HttpStatus.OK.value());
             return;
         }
 
         if (StringUtils.hasText(accessToken)) {
-            if (jwtTokenProvider.validateToken(accessToken)) {
-                setAuthentication(jwtTokenProvider.getUserInfo(accessToken));
-            } else {
+            Claims claims = jwtTokenProvider.parse(accessToken);
+            if (claims == null || !jwtTokenProvider.isAccessToken(claims)) {
+                authMetrics.recordFilter(AuthMetrics.FILTER_INVALID, startNanos);
+                writeError(response, "Invalid Access Token.", HttpStatus.UNAUTHORIZED.value());
+                return;
+            }
+            try {
+                setAuthentication(claims);
+            } catch (AuthenticationException e) {
+                authMetrics.recordFilter(AuthMetrics.FILTER_INVALID, startNanos);
                 writeError(response, "Invalid Access Token.", HttpStatus.UNAUTHORIZED.value());
                 return;
             }
+            authMetrics.recordFilter(AuthMetrics.FILTER_AUTHENTICATED, startNanos);
+        } else {
+            authMetrics.recordFilter(AuthMetrics.FILTER_ANONYMOUS, startNanos);
         }
 
         chain.doFilter(request, response);
     }
 
-    private void setAuthentication(String username) {
-        Authentication authentication = jwtTokenProvider.getAuthentication(username);
+    private void setAuthentication(Claims claims) {
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims);
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     private void writeError(HttpServletResponse response, String msg, int statusCode) {
-        response.setStatus(statusCode);
-        response.setContentType("application/json");
         try {
-            String json = new ObjectMapper().writeValueAsString(SecurityExceptionDto.builder().statusCode(statusCode).msg(msg).build());
-            response.getWriter().write(json);
+            SecurityErrorWriter.write(response, statusCode, msg);
         } catch (Exception e) {
             log.error(e.getMessage());
         }
@@ -1,8 +1,17 @@
 package com.nowgnodeel.todobe.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nowgnodeel.todobe.auth.common.Role;
+import com.nowgnodeel.todobe.auth.config.security.UserDetailsImpl;
 import com.nowgnodeel.todobe.auth.config.security.UserDetailsServiceImpl;
+import com.nowgnodeel.todobe.auth.config.security.UserTokenVersionRegistry;
 import com.nowgnodeel.todobe.auth.dto.JwsDto;
+import com.nowgnodeel.todobe.global.metrics.AuthMetrics;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -15,13 +24,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -29,10 +41,21 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final UserDetailsServiceImpl userDetailsService;
+    private final UserTokenVersionRegistry userTokenVersionRegistry;
+    private final RefreshTokenRevocationStore refreshTokenRevocationStore;
+    private final AuthMetrics authMetrics;
 
     public static final String ACCESS_TOKEN = "Authorization";
     public static final String REFRESH_TOKEN = "Refresh";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_VERSION = "ver";
+    private static final String CLAIM_FAMILY = "fid";
+    private static final String CLAIM_TYPE = "typ";
+    private static final String TYPE_ACCESS = "access";
+    private static final String TYPE_REFRESH = "refresh";
+    private static final String TYPE_STREAM = "stream";
 
     @Value("${jwt.secret.key}")
     private String secretKeyBase64;
@@ -46,7 +69,21 @@ public class JwtTokenProvider {
     @Value("${jwt.refreshMillis:604800000}")
     private long refreshValidityMs;
 
+    @Value("${jwt.streamTicketMillis:30000}")
+    private long streamTicketValidityMs;
+
+    @Value("${jwt.statelessPrincipal:true}")
+    private boolean statelessPrincipal;
+
+    @Value("${jwt.claimsCache.maxSize:10000}")
+    private long claimsCacheMaxSize;
+
+    @Value("${jwt.claimsCache.maxTtlMillis:60000}")
+    private long claimsCacheMaxTtlMs;
+
     private SecretKey key;
+    private JwtParser parser;
+    private Cache<String, Claims> claimsCache;
 
     @PostConstruct
     public void init() {
@@ -55,36 +92,130 @@ public class JwtTokenProvider {
             throw new IllegalStateException("JWT secret too short (>=32 bytes after Base64).");
         }
         key = Keys.hmacShaKeyFor(bytes);
-        log.info("JWT key initialized. issuer={}, accessValidityMs={}, refreshValidityMs={}", issuer, accessValidityMs, refreshValidityMs);
+        parser = Jwts.parser().verifyWith(key).build();
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(Expiry.creating((String jws, Claims claims) -> untilExpiration(claims)))
+                .build();
+        log.info("JWT key initialized. issuer={}, accessValidityMs={}, refreshValidityMs={}, statelessPrincipal={}",
+                issuer, accessValidityMs, refreshValidityMs, statelessPrincipal);
     }
 
     public String getToken(HttpServletRequest request, String jwsType) {
         String headerName = ACCESS_TOKEN.equals(jwsType) ? ACCESS_TOKEN : REFRESH_TOKEN;
-        String headerVal = request.getHeader(headerName);
-        if (!StringUtils.hasText(headerVal)) return null;
-        return stripBearer(headerVal);
+        return stripBearer(request.getHeader(headerName));
     }
 
-    public String createAccessToken(String username) {
-        return formatAsBearer(createToken(username, accessValidityMs));
+    public String createAccessToken(UserDetailsImpl principal) {
+        long startNanos = System.nanoTime();
+        long now = System.currentTimeMillis();
+        String token = formatAsBearer(Jwts.builder()
+                .subject(principal.getUsername())
+                .issuer(issuer)
+                .claim(CLAIM_TYPE, TYPE_ACCESS)
+                .claim(CLAIM_USER_ID, principal.getId())
+                .claim(CLAIM_ROLE, principal.getRole().name())
+                .claim(CLAIM_VERSION, principal.getTokenVersion())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + accessValidityMs))
+                .signWith(key)
+                .compact());
+        authMetrics.recordCreate(true, startNanos);
+        return token;
     }
 
-    public String createRefreshToken(String username) {
-        return formatAsBearer(createToken(username, refreshValidityMs));
+    public String createRefreshToken(UserDetailsImpl principal) {
+        String familyId = UUID.randomUUID().toString();
+        String jti = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + refreshValidityMs;
+        refreshTokenRevocationStore.register(familyId, jti, expiresAt);
+        return buildRefreshToken(principal, familyId, jti, expiresAt);
     }
 
-    public JwsDto createAllTokens(String userId) {
+    public JwsDto createAllTokens(UserDetailsImpl principal) {
         return JwsDto.builder()
-                .accessToken(createAccessToken(userId))
-                .refreshToken(createRefreshToken(userId))
+                .accessToken(createAccessToken(principal))
+                .refreshToken(createRefreshToken(principal))
                 .build();
     }
 
-    public boolean validateToken(String tokenOrHeaderValue) {
+    /**
+     * Short-lived token for clients that cannot set headers, such as a browser EventSource. It travels in
+     * the query string, so it is scoped to the event stream and expires after {@code jwt.streamTicketMillis}.
+     */
+    public String createStreamTicket(UserDetailsImpl principal) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(principal.getUsername())
+                .issuer(issuer)
+                .claim(CLAIM_TYPE, TYPE_STREAM)
+                .claim(CLAIM_USER_ID, principal.getId())
+                .claim(CLAIM_VERSION, principal.getTokenVersion())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + streamTicketValidityMs))
+                .signWith(key)
+                .compact();
+    }
+
+    public long getStreamTicketValidityMs() {
+        return streamTicketValidityMs;
+    }
+
+    public Long resolveStreamTicket(String ticket) {
+        Claims claims = StringUtils.hasText(ticket) ? parse(ticket) : null;
+        if (claims == null || !TYPE_STREAM.equals(claims.get(CLAIM_TYPE, String.class))) return null;
+        Long version = claims.get(CLAIM_VERSION, Long.class);
+        if (version == null || userTokenVersionRegistry.isStale(claims.getSubject(), version)) return null;
+        return claims.get(CLAIM_USER_ID, Long.class);
+    }
+
+    public boolean isAccessToken(Claims claims) {
+        return TYPE_ACCESS.equals(claims.get(CLAIM_TYPE, String.class));
+    }
+
+    public boolean isRefreshTokenRevoked(Claims refreshClaims) {
+        String familyId = refreshClaims.get(CLAIM_FAMILY, String.class);
+        return !TYPE_REFRESH.equals(refreshClaims.get(CLAIM_TYPE, String.class))
+                || refreshClaims.getId() == null || familyId == null
+                || refreshTokenRevocationStore.isFamilyRevoked(familyId);
+    }
+
+    /**
+     * True when the token predates the principal's current token version, or carries none.
+     */
+    public boolean isVersionStale(Claims claims, UserDetailsImpl principal) {
+        Long version = claims.get(CLAIM_VERSION, Long.class);
+        return version == null || principal.getTokenVersion() > version;
+    }
+
+    public JwsDto rotateRefreshToken(Claims refreshClaims, UserDetailsImpl principal) {
+        if (isRefreshTokenRevoked(refreshClaims) || isVersionStale(refreshClaims, principal)) return null;
+        String familyId = refreshClaims.get(CLAIM_FAMILY, String.class);
+        String nextJti = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + refreshValidityMs;
+        if (!refreshTokenRevocationStore.rotate(familyId, refreshClaims.getId(), nextJti, expiresAt)) {
+            log.warn("Refresh token reuse detected; family revoked. subject={}", refreshClaims.getSubject());
+            return null;
+        }
+        return JwsDto.builder()
+                .accessToken(createAccessToken(principal))
+                .refreshToken(buildRefreshToken(principal, familyId, nextJti, expiresAt))
+                .build();
+    }
+
+    public Claims parse(String tokenOrHeaderValue) {
+        long startNanos = System.nanoTime();
         String jws = stripBearer(tokenOrHeaderValue);
+        Claims cached = jws == null ? null : claimsCache.getIfPresent(jws);
+        if (cached != null) {
+            authMetrics.recordParse(true, true, startNanos);
+            return cached;
+        }
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(jws);
-            return true;
+            Claims claims = parser.parseSignedClaims(jws).getPayload();
+            claimsCache.put(jws, claims);
+            authMetrics.recordParse(true, false, startNanos);
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT signature/format: {}", e.getClass().getSimpleName());
         } catch (ExpiredJwtException e) {
@@ -94,21 +225,28 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims is empty");
         }
-        return false;
+        authMetrics.recordParse(false, false, startNanos);
+        return null;
+    }
+
+    public boolean validateToken(String tokenOrHeaderValue) {
+        return parse(tokenOrHeaderValue) != null;
     }
 
     public String getUserInfo(String tokenOrHeaderValue) {
         String jws = stripBearer(tokenOrHeaderValue);
+        Claims cached = jws == null ? null : claimsCache.getIfPresent(jws);
+        if (cached != null) return cached.getSubject();
         try {
-            return Jwts.parser().verifyWith(key).build().parseSignedClaims(jws).getPayload().getSubject();
+            return parser.parseSignedClaims(jws).getPayload().getSubject();
         } catch (ExpiredJwtException e) {
             log.info("Expired JWT token, returning subject from claims.");
             return e.getClaims().getSubject();
         }
     }
 
-    public Authentication getAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = resolvePrincipal(claims);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
@@ -116,21 +254,59 @@ public class JwtTokenProvider {
         response.setHeader(ACCESS_TOKEN, formatAsBearer(stripBearer(tokenOrHeaderValue)));
     }
 
-    private String createToken(String subject, long validityMs) {
-        long now = System.currentTimeMillis();
-        return Jwts.builder()
-                .subject(subject)
+    private UserDetails resolvePrincipal(Claims claims) {
+        String username = claims.getSubject();
+        if (statelessPrincipal) {
+            Long userId = claims.get(CLAIM_USER_ID, Long.class);
+            String role = claims.get(CLAIM_ROLE, String.class);
+            Long version = claims.get(CLAIM_VERSION, Long.class);
+            if (userId != null && role != null && version != null && !userTokenVersionRegistry.isStale(username, version)) {
+                return new UserDetailsImpl(userId, username, null, Role.valueOf(role), version);
+            }
+        }
+        UserDetails loaded = userDetailsService.loadUserByUsername(username);
+        if (!(loaded instanceof UserDetailsImpl principal) || isVersionStale(claims, principal)) {
+            throw new CredentialsExpiredException("Access token has been revoked.");
+        }
+        return loaded;
+    }
+
+    private String buildRefreshToken(UserDetailsImpl principal, String familyId, String jti, long expiresAt) {
+        long startNanos = System.nanoTime();
+        String token = formatAsBearer(Jwts.builder()
+                .id(jti)
+                .subject(principal.getUsername())
                 .issuer(issuer)
-                .issuedAt(new Date(now))
-                .expiration(new Date(now + validityMs))
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .claim(CLAIM_FAMILY, familyId)
+                .claim(CLAIM_VERSION, principal.getTokenVersion())
+                .issuedAt(new Date())
+                .expiration(new Date(expiresAt))
                 .signWith(key)
-                .compact();
+                .compact());
+        authMetrics.recordCreate(false, startNanos);
+        return token;
     }
 
-    private String stripBearer(String maybeBearer) {
-        if (!StringUtils.hasText(maybeBearer)) return null;
-        String trimmed = maybeBearer.trim();
-        return trimmed.startsWith(BEARER_PREFIX) ? trimmed.substring(BEARER_PREFIX.length()).trim() : trimmed;
+    private Duration untilExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) return Duration.ZERO;
+        long remainingMs = expiration.getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(0, Math.min(remainingMs, claimsCacheMaxTtlMs)));
+    }
+
+    static String stripBearer(String maybeBearer) {
+        if (maybeBearer == null) return null;
+        int start = 0;
+        int end = maybeBearer.length();
+        while (start < end && maybeBearer.charAt(start) <= ' ') start++;
+        while (end > start && maybeBearer.charAt(end - 1) <= ' ') end--;
+        if (start == end) return null;
+        if (maybeBearer.startsWith(BEARER_PREFIX, start)) {
+            start += BEARER_PREFIX.length();
+            while (start < end && maybeBearer.charAt(start) <= ' ') start++;
+        }
+        return start == 0 && end == maybeBearer.length() ? maybeBearer : maybeBearer.substring(start, end);
     }
 
     private String formatAsBearer(String rawToken) {
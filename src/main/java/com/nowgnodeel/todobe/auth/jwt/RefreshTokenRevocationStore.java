@@ -0,0 +1,208 @@
+package com.nowgnodeel.todobe.auth.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Refresh token families keyed by family id. Each family keeps only the jti of its newest token, so
+ * memory grows with live sessions rather than with rotations. Presenting any other jti of a known
+ * family is treated as reuse and revokes the family.
+ */
+@Slf4j
+@Component
+public class RefreshTokenRevocationStore {
+
+    private static final String REVOKED = "-";
+
+    private record Family(String currentJti, long expiresAt) {
+
+        boolean revoked() {
+            return REVOKED.equals(currentJti);
+        }
+    }
+
+    private final ConcurrentMap<String, Family> families = new ConcurrentHashMap<>();
+    private final Queue<String> pendingLines = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock fileLock = new ReentrantLock();
+
+    @Value("${jwt.revocation.file:data/refresh-token-families.log}")
+    private String file;
+
+    @Value("${jwt.revocation.compactThreshold:10000}")
+    private int compactThreshold;
+
+    private Path path;
+    private BufferedWriter writer;
+    private int appendedSinceCompaction;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!StringUtils.hasText(file)) return;
+        path = Path.of(file);
+        if (Files.exists(path)) {
+            long now = System.currentTimeMillis();
+            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] parts = line.split(" ");
+                if (parts.length != 3) continue;
+                try {
+                    long expiresAt = Long.parseLong(parts[2]);
+                    if (expiresAt > now) {
+                        families.put(parts[0], new Family(parts[1], expiresAt));
+                    } else {
+                        families.remove(parts[0]);
+                    }
+                } catch (NumberFormatException e) {
+                    log.warn("Skipping malformed revocation entry.");
+                }
+            }
+        }
+        fileLock.lock();
+        try {
+            compact();
+        } finally {
+            fileLock.unlock();
+        }
+        log.info("Refresh token families loaded. file={}, entries={}", path, families.size());
+    }
+
+    public void register(String familyId, String jti, long expiresAtMillis) {
+        families.put(familyId, new Family(jti, expiresAtMillis));
+        append(familyId, jti, expiresAtMillis);
+    }
+
+    public boolean isFamilyRevoked(String familyId) {
+        Family family = families.get(familyId);
+        return family != null && family.revoked() && family.expiresAt() > System.currentTimeMillis();
+    }
+
+    /**
+     * Moves the family from {@code presentedJti} to {@code nextJti}. Returns false, revoking the family until
+     * {@code expiresAtMillis}, when the presented jti is not the family's newest one. Unknown families are
+     * accepted; with the default file that only happens if the file was lost or the family was registered
+     * within one flush interval before a crash.
+     */
+    public boolean rotate(String familyId, String presentedJti, String nextJti, long expiresAtMillis) {
+        boolean[] rotated = {false};
+        Family next = families.compute(familyId, (id, family) -> {
+            if (family != null && family.expiresAt() > System.currentTimeMillis()) {
+                if (family.revoked()) return family;
+                if (!family.currentJti().equals(presentedJti)) return new Family(REVOKED, expiresAtMillis);
+            }
+            rotated[0] = true;
+            return new Family(nextJti, expiresAtMillis);
+        });
+        append(familyId, next.currentJti(), next.expiresAt());
+        return rotated[0];
+    }
+
+    public int size() {
+        return families.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.flushMillis:200}")
+    public void flush() {
+        if (writer == null || pendingLines.isEmpty()) return;
+        fileLock.lock();
+        try {
+            writePending();
+        } catch (IOException e) {
+            log.error("Failed to persist refresh token families: {}", e.getMessage());
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purgeMillis:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        families.entrySet().removeIf(e -> e.getValue().expiresAt() <= now);
+        if (writer == null) return;
+        fileLock.lock();
+        try {
+            if (appendedSinceCompaction > Math.max(compactThreshold, families.size())) {
+                compact();
+            }
+        } catch (IOException e) {
+            log.error("Failed to compact revocation file: {}", e.getMessage());
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        fileLock.lock();
+        try {
+            if (writer != null) {
+                writePending();
+                writer.close();
+            }
+            writer = null;
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    private void append(String familyId, String jti, long expiresAtMillis) {
+        if (path == null) return;
+        pendingLines.add(familyId + ' ' + jti + ' ' + expiresAtMillis);
+    }
+
+    private void writePending() throws IOException {
+        String line;
+        int written = 0;
+        while ((line = pendingLines.poll()) != null) {
+            writer.write(line);
+            writer.newLine();
+            written++;
+        }
+        if (written > 0) {
+            writer.flush();
+            appendedSinceCompaction += written;
+        }
+    }
+
+    private void compact() throws IOException {
+        if (writer != null) {
+            writePending();
+            writer.close();
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        long now = System.currentTimeMillis();
+        pendingLines.clear();
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Family> entry : families.entrySet()) {
+                Family family = entry.getValue();
+                if (family.expiresAt() <= now) continue;
+                out.write(entry.getKey() + ' ' + family.currentJti() + ' ' + family.expiresAt());
+                out.newLine();
+            }
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        appendedSinceCompaction = 0;
+    }
+}
@@ -0,0 +1,58 @@
+package com.nowgnodeel.todobe.auth.jwt;
+
+import com.nowgnodeel.todobe.auth.config.security.UserDetailsImpl;
+import com.nowgnodeel.todobe.auth.config.security.UserPrincipalCache;
+import com.nowgnodeel.todobe.auth.dto.JwsDto;
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+@RequiredArgsConstructor
+public class TokenReissuer {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserPrincipalCache userPrincipalCache;
+
+    public JwsDto reissue(String refreshToken, String accessToken) {
+        Claims refreshClaims = StringUtils.hasText(refreshToken) ? jwtTokenProvider.parse(refreshToken) : null;
+        if (refreshClaims == null) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Invalid or missing refresh token.");
+        }
+        String username = refreshClaims.getSubject();
+        if (!StringUtils.hasText(username)) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Cannot extract subject from refresh token.");
+        }
+        if (StringUtils.hasText(accessToken)) {
+            String accessSubject = accessSubject(accessToken);
+            if (StringUtils.hasText(accessSubject) && !username.equals(accessSubject)) {
+                throw new ApiException(HttpStatus.UNAUTHORIZED, "Tokens belong to different users.");
+            }
+        }
+        if (jwtTokenProvider.isRefreshTokenRevoked(refreshClaims)) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Refresh token revoked.");
+        }
+        UserDetailsImpl principal = userPrincipalCache.findWithCredentials(username)
+                .orElseThrow(() -> new ApiException(HttpStatus.UNAUTHORIZED, "User not found."));
+        if (jwtTokenProvider.isVersionStale(refreshClaims, principal)) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Refresh token revoked.");
+        }
+        JwsDto rotated = jwtTokenProvider.rotateRefreshToken(refreshClaims, principal);
+        if (rotated == null) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Refresh token revoked.");
+        }
+        return rotated;
+    }
+
+    private String accessSubject(String accessToken) {
+        try {
+            return jwtTokenProvider.getUserInfo(accessToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "Invalid Access Token.");
+        }
+    }
+}
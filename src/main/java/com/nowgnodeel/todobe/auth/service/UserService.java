@@ -1,60 +1,84 @@
 package com.nowgnodeel.todobe.auth.service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nowgnodeel.todobe.auth.config.security.AsyncPasswordEncoder;
 import com.nowgnodeel.todobe.auth.config.security.UserDetailsImpl;
+import com.nowgnodeel.todobe.auth.config.security.UserPrincipalCache;
+import com.nowgnodeel.todobe.auth.config.security.UserTokenVersionRegistry;
 import com.nowgnodeel.todobe.auth.dto.*;
 import com.nowgnodeel.todobe.auth.entity.User;
 import com.nowgnodeel.todobe.auth.exception.InvalidPasswordException;
 import com.nowgnodeel.todobe.auth.jwt.JwtTokenProvider;
+import com.nowgnodeel.todobe.auth.jwt.TokenReissuer;
 import com.nowgnodeel.todobe.auth.repository.UserRepository;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import com.nowgnodeel.todobe.todo.service.TodoPurgeService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final AsyncPasswordEncoder asyncPasswordEncoder;
+    private final TransactionTemplate transactionTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserTokenVersionRegistry userTokenVersionRegistry;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TodoPurgeService todoPurgeService;
+    private final TokenReissuer tokenReissuer;
+    private final UsernameIndex usernameIndex;
+    private final Executor applicationTaskExecutor;
 
-    @Transactional
-    public UserJoinResponseDto create(UserJoinRequestDto requestDto) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<UserJoinResponseDto> create(UserJoinRequestDto requestDto) {
         if (userRepository.existsByUsername(requestDto.getUsername())) {
             throw new IllegalArgumentException("이미 존재하는 사용자명입니다.");
         }
-        User user = User.builder()
-                .username(requestDto.getUsername())
-                .password(passwordEncoder.encode(requestDto.getPassword()))
-                .nickname(requestDto.getNickname())
-                .birth(requestDto.getBirth())
-                .gender(requestDto.getGender())
-                .phone(requestDto.getPhone())
-                .role(requestDto.getRole())
-                .build();
-        userRepository.save(user);
-        return UserJoinResponseDto.builder().msg("회원가입 완료").build();
+        return asyncPasswordEncoder.encode(requestDto.getPassword())
+                .thenApplyAsync(encodedPassword -> inNewTransaction(status -> {
+                    User user = User.builder()
+                            .username(requestDto.getUsername())
+                            .password(encodedPassword)
+                            .nickname(requestDto.getNickname())
+                            .birth(requestDto.getBirth())
+                            .gender(requestDto.getGender())
+                            .phone(requestDto.getPhone())
+                            .role(requestDto.getRole())
+                            .build();
+                    userRepository.save(user);
+                    usernameIndex.add(user.getUsername());
+                    return UserJoinResponseDto.builder().msg("회원가입 완료").build();
+                }), applicationTaskExecutor);
     }
 
-    @Transactional
-    public UserLoginResponseDto login(UserLoginRequestDto requestDto, HttpServletResponse response) {
-        User findUser = userRepository.findByUsername(requestDto.getUsername())
+    public CompletableFuture<JwsDto> login(UserLoginRequestDto requestDto) {
+        UserDetailsImpl principal = userPrincipalCache.findWithCredentials(requestDto.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("잘못된 요청입니다."));
-        if (!passwordEncoder.matches(requestDto.getPassword(), findUser.getPassword())) {
-            throw new IllegalArgumentException("잘못된 요청입니다.");
-        }
-        JwsDto jwsDto = jwtTokenProvider.createAllTokens(findUser.getUsername());
-        response.addHeader(JwtTokenProvider.ACCESS_TOKEN, jwsDto.getAccessToken());
-        response.addHeader(JwtTokenProvider.REFRESH_TOKEN, jwsDto.getRefreshToken());
-        return UserLoginResponseDto.builder().msg("로그인 완료").build();
+        return asyncPasswordEncoder.matches(requestDto.getPassword(), principal.getPassword())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new IllegalArgumentException("잘못된 요청입니다.");
+                    }
+                    if (asyncPasswordEncoder.upgradeEncoding(principal.getPassword())) {
+                        upgradePasswordHash(principal, requestDto.getPassword());
+                    }
+                    return jwtTokenProvider.createAllTokens(principal);
+                });
     }
 
     public User getAuth(UserDetails userDetails) {
@@ -62,45 +86,92 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("인증되지 않은 사용자입니다."));
     }
 
-    @Transactional
-    public UserReissueResponseDto reissue() {
-        ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attrs == null) throw new IllegalStateException("요청 컨텍스트가 없습니다.");
-        HttpServletRequest request = attrs.getRequest();
-        HttpServletResponse response = attrs.getResponse();
-        if (response == null) throw new IllegalStateException("응답 컨텍스트가 없습니다.");
-
-        String refresh = request.getHeader(JwtTokenProvider.REFRESH_TOKEN);
-        if (!StringUtils.hasText(refresh) || !jwtTokenProvider.validateToken(refresh)) {
-            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
-        }
-        String username = jwtTokenProvider.getUserInfo(refresh);
-        userRepository.findByUsername(username).orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        String newAccess = jwtTokenProvider.createAccessToken(username);
-        response.addHeader(JwtTokenProvider.ACCESS_TOKEN, newAccess);
-        return UserReissueResponseDto.builder().msg("refresh token reissue complete").build();
+    public JwsDto reissue(String refreshToken, String accessToken) {
+        return tokenReissuer.reissue(refreshToken, accessToken);
     }
 
     public ExistNameResponseDto checkExistName(ExistNameRequestDto requestDto) {
-        boolean exists = userRepository.existsByUsername(requestDto.getUsername());
+        String username = requestDto.getUsername();
+        boolean exists = usernameIndex.mightExist(username) && userRepository.existsByUsername(username);
         return ExistNameResponseDto.builder().message(exists ? "false" : "true").build();
     }
 
-    public UserVerificationResponseDto checkVerification(UserVerificationRequestDto requestDto, UserDetailsImpl userDetails) {
-        User findUser = userRepository.findByUsername(userDetails.getUsername())
+    public CompletableFuture<UserVerificationResponseDto> checkVerification(UserVerificationRequestDto requestDto, UserDetailsImpl userDetails) {
+        UserDetailsImpl principal = userPrincipalCache.findWithCredentials(userDetails.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("잘못된 요청입니다."));
-        if (!passwordEncoder.matches(requestDto.getPassword(), findUser.getPassword())) {
-            throw new InvalidPasswordException("false");
+        return asyncPasswordEncoder.matches(requestDto.getPassword(), principal.getPassword())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new InvalidPasswordException("false");
+                    }
+                    return UserVerificationResponseDto.builder().msg("true").build();
+                });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<UserInformationResponseDto> updatePersonalInformation(UserInformationRequestDto requestDto, UserDetailsImpl userDetails) {
+        CompletableFuture<String> encodedPassword = StringUtils.hasText(requestDto.getPassword())
+                ? asyncPasswordEncoder.encode(requestDto.getPassword())
+                : CompletableFuture.completedFuture(null);
+        return encodedPassword.thenApplyAsync(encoded -> inNewTransaction(status -> {
+            User findUser = userRepository.findByUsername(userDetails.getUsername())
+                    .orElseThrow(() -> new IllegalArgumentException("잘못된 요청입니다."));
+            findUser.patch(requestDto, encoded);
+            userTokenVersionRegistry.record(findUser.getUsername(), findUser.getTokenVersion());
+            userPrincipalCache.evictAfterCommit(findUser.getUsername());
+            return UserInformationResponseDto.builder().message("complete").build();
+        }), applicationTaskExecutor);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserDeleteResponseDto delete(UserDetailsImpl userDetails) {
+        Long userId = userDetails.getId();
+        String username = userDetails.getUsername();
+        todoPurgeService.purgeUser(userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.lockById(userId).isEmpty()) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+            }
+            todoPurgeService.purgeRemaining(userId);
+            userRepository.deleteUserById(userId);
+            userTokenVersionRegistry.record(username, Long.MAX_VALUE);
+            userPrincipalCache.evictAfterCommit(username);
+        });
+        return UserDeleteResponseDto.builder().message("complete").build();
+    }
+
+    public UserCacheStatsResponseDto getCacheStats() {
+        CacheStats stats = userPrincipalCache.stats();
+        return UserCacheStatsResponseDto.builder()
+                .size(userPrincipalCache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    private void upgradePasswordHash(UserDetailsImpl principal, String rawPassword) {
+        try {
+            asyncPasswordEncoder.encode(rawPassword)
+                    .thenAcceptAsync(encoded -> {
+                        if (userRepository.updatePassword(principal.getId(), principal.getPassword(), encoded) > 0) {
+                            userPrincipalCache.evict(principal.getUsername());
+                            log.info("Password hash upgraded. userId={}", principal.getId());
+                        }
+                    }, applicationTaskExecutor)
+                    .exceptionally(e -> {
+                        log.warn("Password hash upgrade failed. userId={}, cause={}", principal.getId(), e.getMessage());
+                        return null;
+                    });
+        } catch (ApiException e) {
+            log.info("Password hash upgrade skipped, executor saturated. userId={}", principal.getId());
         }
-        return UserVerificationResponseDto.builder().msg("true").build();
     }
 
-    @Transactional
-    public UserInformationResponseDto updatePersonalInformation(UserInformationRequestDto requestDto, UserDetailsImpl userDetails) {
-        User findUser = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("잘못된 요청입니다."));
-        findUser.patch(requestDto, passwordEncoder.encode(requestDto.getPassword()));
-        userRepository.save(findUser);
-        return UserInformationResponseDto.builder().message("complete").build();
+    private <T> T inNewTransaction(TransactionCallback<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template.execute(action);
     }
 }
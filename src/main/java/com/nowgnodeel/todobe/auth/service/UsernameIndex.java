@@ -0,0 +1,79 @@
+package com.nowgnodeel.todobe.auth.service;
+
+import com.nowgnodeel.todobe.auth.repository.UserRepository;
+import com.nowgnodeel.todobe.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of usernames used to answer "available" without a query. Names created on other nodes
+ * after warm-up never reach this filter, so negatives are only trusted with
+ * {@code user.usernameIndex.singleNode=true}; otherwise every check goes to the database.
+ */
+@Slf4j
+@Component
+public class UsernameIndex {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BloomFilter filter;
+    private final long expectedInsertions;
+    private final boolean singleNode;
+    private final AtomicLong inserted = new AtomicLong();
+    private volatile boolean ready;
+
+    public UsernameIndex(UserRepository userRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${user.usernameIndex.expectedInsertions:1000000}") long expectedInsertions,
+                         @Value("${user.usernameIndex.falsePositiveRate:0.01}") double falsePositiveRate,
+                         @Value("${user.usernameIndex.singleNode:false}") boolean singleNode) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.expectedInsertions = expectedInsertions;
+        this.singleNode = singleNode;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!singleNode) {
+            log.info("Username index disabled; availability checks go to the database. Set user.usernameIndex.singleNode=true on a single node.");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                usernames.forEach(this::add);
+            }
+        });
+        ready = true;
+        log.info("Username index warmed. entries={}, bits={}, hashes={}, elapsedMs={}",
+                inserted.get(), filter.bitSize(), filter.hashCount(), System.currentTimeMillis() - startedAt);
+        if (inserted.get() > expectedInsertions) {
+            log.warn("Username index holds more entries than expectedInsertions={}; false positive rate will rise.", expectedInsertions);
+        }
+    }
+
+    public void add(String username) {
+        filter.put(normalize(username));
+        inserted.incrementAndGet();
+    }
+
+    public boolean mightExist(String username) {
+        return !singleNode || !ready || username == null || filter.mightContain(normalize(username));
+    }
+
+    private String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+}
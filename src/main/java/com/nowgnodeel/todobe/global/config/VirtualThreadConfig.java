@@ -0,0 +1,125 @@
+package com.nowgnodeel.todobe.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final String BASE_PACKAGE = "com.nowgnodeel.todobe";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int PINNED_FRAMES = 5;
+
+    @Value("${virtual.maxConcurrentRequests:0}")
+    private int maxConcurrentRequests;
+
+    @Value("${virtual.acquireTimeoutMillis:2000}")
+    private long acquireTimeoutMillis;
+
+    @Value("${virtual.pinnedThresholdMillis:20}")
+    private long pinnedThresholdMillis;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(DataSource dataSource) {
+        boolean limited = maxConcurrentRequests > 0;
+        log.info("Virtual threads enabled. maxConcurrentRequests={}, hikariPoolSize={}, acquireTimeoutMs={}",
+                limited ? maxConcurrentRequests : "unlimited", poolSize(dataSource), acquireTimeoutMillis);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(Math.max(maxConcurrentRequests, 1), acquireTimeoutMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setEnabled(limited);
+        return registration;
+    }
+
+    @Bean
+    public ApplicationRunner pinningReport(ApplicationContext context, DataSource dataSource) {
+        return args -> {
+            reportJdbcDriver(dataSource);
+            reportSynchronizedMethods(context);
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    public RecordingStream pinnedThreadMonitor() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(pinnedThresholdMillis)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> log.warn("Pinned virtual thread for {}ms at {}",
+                event.getDuration().toMillis(), topFrames(event)));
+        stream.startAsync();
+        return stream;
+    }
+
+    private int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        return 10;
+    }
+
+    private void reportJdbcDriver(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String driver = metaData.getDriverName();
+            int major = metaData.getDriverMajorVersion();
+            if (driver.contains("MySQL") && major < 9) {
+                log.warn("Pinning source: {} {} guards I/O with synchronized blocks. Upgrade to 9.x or keep the pool small.",
+                        driver, metaData.getDriverVersion());
+            } else {
+                log.info("JDBC driver {} {}", driver, metaData.getDriverVersion());
+            }
+        } catch (Exception e) {
+            log.warn("Could not inspect JDBC driver for pinning: {}", e.getMessage());
+        }
+    }
+
+    private void reportSynchronizedMethods(ApplicationContext context) {
+        for (String name : context.getBeanDefinitionNames()) {
+            Class<?> type = context.getType(name);
+            if (type == null) continue;
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            if (!userClass.getName().startsWith(BASE_PACKAGE)) continue;
+            for (Method method : userClass.getDeclaredMethods()) {
+                if (Modifier.isSynchronized(method.getModifiers())) {
+                    log.warn("Pinning source: synchronized method {}.{}", userClass.getSimpleName(), method.getName());
+                }
+            }
+        }
+        log.info("Static check covers synchronized methods on beans only; synchronized blocks and non-bean classes "
+                + "are reported at runtime from {} events longer than {}ms.", PINNED_EVENT, pinnedThresholdMillis);
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) return "unknown";
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(PINNED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
@@ -0,0 +1,92 @@
+package com.nowgnodeel.todobe.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AuthMetrics {
+
+    public static final String FILTER_AUTHENTICATED = "authenticated";
+    public static final String FILTER_ANONYMOUS = "anonymous";
+    public static final String FILTER_INVALID = "invalid";
+    public static final String FILTER_REISSUED = "reissued";
+    public static final String FILTER_REISSUE_FAILED = "reissue_failed";
+
+    private final Timer filterAuthenticated;
+    private final Timer filterAnonymous;
+    private final Timer filterInvalid;
+    private final Timer filterReissued;
+    private final Timer filterReissueFailed;
+    private final Timer parseValidCached;
+    private final Timer parseValid;
+    private final Timer parseInvalid;
+    private final Timer createAccess;
+    private final Timer createRefresh;
+    private final Timer userLoadFound;
+    private final Timer userLoadNotFound;
+    private final Timer passwordEncode;
+    private final Timer passwordMatches;
+    private final Timer passwordQueue;
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.filterAuthenticated = timer(registry, "auth.jwt.filter", "outcome", FILTER_AUTHENTICATED);
+        this.filterAnonymous = timer(registry, "auth.jwt.filter", "outcome", FILTER_ANONYMOUS);
+        this.filterInvalid = timer(registry, "auth.jwt.filter", "outcome", FILTER_INVALID);
+        this.filterReissued = timer(registry, "auth.jwt.filter", "outcome", FILTER_REISSUED);
+        this.filterReissueFailed = timer(registry, "auth.jwt.filter", "outcome", FILTER_REISSUE_FAILED);
+        this.parseValidCached = timer(registry, "auth.jwt.parse", "outcome", "valid", "cache", "hit");
+        this.parseValid = timer(registry, "auth.jwt.parse", "outcome", "valid", "cache", "miss");
+        this.parseInvalid = timer(registry, "auth.jwt.parse", "outcome", "invalid", "cache", "miss");
+        this.createAccess = timer(registry, "auth.jwt.create", "type", "access");
+        this.createRefresh = timer(registry, "auth.jwt.create", "type", "refresh");
+        this.userLoadFound = timer(registry, "auth.user.load", "outcome", "found");
+        this.userLoadNotFound = timer(registry, "auth.user.load", "outcome", "not_found");
+        this.passwordEncode = timer(registry, "auth.password", "operation", "encode");
+        this.passwordMatches = timer(registry, "auth.password", "operation", "matches");
+        this.passwordQueue = timer(registry, "auth.password.queue");
+    }
+
+    public void recordFilter(String outcome, long startNanos) {
+        Timer timer = switch (outcome) {
+            case FILTER_AUTHENTICATED -> filterAuthenticated;
+            case FILTER_ANONYMOUS -> filterAnonymous;
+            case FILTER_REISSUED -> filterReissued;
+            case FILTER_REISSUE_FAILED -> filterReissueFailed;
+            default -> filterInvalid;
+        };
+        record(timer, "jwt.filter", startNanos);
+    }
+
+    public void recordParse(boolean valid, boolean cached, long startNanos) {
+        record(!valid ? parseInvalid : cached ? parseValidCached : parseValid, "jwt.parse", startNanos);
+    }
+
+    public void recordCreate(boolean access, long startNanos) {
+        record(access ? createAccess : createRefresh, "jwt.create", startNanos);
+    }
+
+    public void recordUserLoad(boolean found, long startNanos) {
+        record(found ? userLoadFound : userLoadNotFound, "user.load", startNanos);
+    }
+
+    public void recordPassword(boolean encode, long startNanos) {
+        record(encode ? passwordEncode : passwordMatches, encode ? "password.encode" : "password.matches", startNanos);
+    }
+
+    public void recordPasswordQueue(long submittedNanos) {
+        record(passwordQueue, "password.queue", submittedNanos);
+    }
+
+    private void record(Timer timer, String stage, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        RequestStages.record(stage, elapsed);
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String... tags) {
+        return Timer.builder(name).tags(tags).register(registry);
+    }
+}
@@ -0,0 +1,66 @@
+package com.nowgnodeel.todobe.global.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final String[] HISTOGRAM_PREFIXES = {"auth.", "spring.data.repository", "http.server.requests"};
+
+    @Bean
+    public MeterFilter hotPathHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                for (String prefix : HISTOGRAM_PREFIXES) {
+                    if (id.getName().startsWith(prefix)) {
+                        return DistributionStatisticConfig.builder()
+                                .percentilesHistogram(true)
+                                .percentiles(0.5, 0.95, 0.99)
+                                .build()
+                                .merge(config);
+                    }
+                }
+                return config;
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryStageRecorder() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(invocation -> {
+                        if (!RequestStages.active()) return;
+                        RequestStages.record("db:" + invocation.getRepositoryInterface().getSimpleName() + "." + invocation.getMethod().getName(),
+                                invocation.getDuration(TimeUnit.NANOSECONDS));
+                    }));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "metrics.slowRequest.enabled", havingValue = "true")
+    public FilterRegistrationBean<SlowRequestLoggingFilter> slowRequestLoggingFilter(@Value("${metrics.slowRequest.thresholdMillis:500}") long thresholdMillis) {
+        FilterRegistrationBean<SlowRequestLoggingFilter> registration = new FilterRegistrationBean<>(new SlowRequestLoggingFilter(thresholdMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -0,0 +1,69 @@
+package com.nowgnodeel.todobe.global.metrics;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class RequestStages {
+
+    private static final ThreadLocal<RequestStages> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private final ConcurrentMap<String, AtomicLong[]> stages = new ConcurrentHashMap<>();
+
+    private RequestStages() {
+    }
+
+    public static RequestStages start() {
+        RequestStages stages = new RequestStages();
+        CURRENT.set(stages);
+        return stages;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    public static void record(String stage, long nanos) {
+        RequestStages stages = CURRENT.get();
+        if (stages == null) return;
+        AtomicLong[] slot = stages.stages.computeIfAbsent(stage, k -> new AtomicLong[]{new AtomicLong(), new AtomicLong()});
+        slot[0].addAndGet(nanos);
+        slot[1].incrementAndGet();
+    }
+
+    public static Runnable wrap(Runnable task) {
+        RequestStages captured = CURRENT.get();
+        if (captured == null) return task;
+        return () -> {
+            RequestStages previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) CURRENT.remove();
+                else CURRENT.set(previous);
+            }
+        };
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    public String summary() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<String, AtomicLong[]> entry : stages.entrySet()) {
+            AtomicLong[] slot = entry.getValue();
+            joiner.add(entry.getKey() + "=" + TimeUnit.NANOSECONDS.toMillis(slot[0].get()) + "ms/" + slot[1].get());
+        }
+        return joiner.toString();
+    }
+}
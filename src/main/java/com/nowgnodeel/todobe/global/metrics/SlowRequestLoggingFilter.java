@@ -0,0 +1,78 @@
+package com.nowgnodeel.todobe.global.metrics;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+public class SlowRequestLoggingFilter extends OncePerRequestFilter {
+
+    private final long thresholdNanos;
+
+    public SlowRequestLoggingFilter(long thresholdMillis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStages stages = RequestStages.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStages.clear();
+            if (request.isAsyncStarted()) {
+                AtomicBoolean logged = new AtomicBoolean();
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        if (logged.compareAndSet(false, true)) {
+                            logIfSlow(request, response, stages, "completed", false);
+                        }
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        if (logged.compareAndSet(false, true)) {
+                            logIfSlow(request, response, stages, "timeout", true);
+                        }
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        if (logged.compareAndSet(false, true)) {
+                            logIfSlow(request, response, stages, "error", true);
+                        }
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                logIfSlow(request, response, stages, "completed", false);
+            }
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, HttpServletResponse response, RequestStages stages,
+                           String outcome, boolean failed) {
+        long elapsed = stages.elapsedNanos();
+        if (elapsed < thresholdNanos && !failed) return;
+        String contentType = response.getContentType();
+        if (contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE)) return;
+        log.warn("Slow request. method={}, uri={}, status={}, outcome={}, elapsedMs={}, stages={}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), outcome,
+                TimeUnit.NANOSECONDS.toMillis(elapsed), stages.summary());
+    }
+}
@@ -0,0 +1,360 @@
+package com.nowgnodeel.todobe.todo.buffer;
+
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.event.TodoBulkChangedEvent;
+import com.nowgnodeel.todobe.todo.event.TodoChangedEvent;
+import com.nowgnodeel.todobe.todo.repository.TodoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class TodoToggleBuffer {
+
+    private static final String UPDATE_SQL = "update todo set is_done = ?, modified_at = ? where id = ? and user_id = ?";
+    private static final String RECOVER_SQL = UPDATE_SQL + " and modified_at < ?";
+    private static final int WRITE_STRIPES = 256;
+
+    private record Pending(Long userId, TodoResponseDto persisted, TodoResponseDto latest) {
+    }
+
+    private final TodoRepository todoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final TodoToggleWal wal;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantReadWriteLock[] userLocks = new ReentrantReadWriteLock[WRITE_STRIPES];
+    private final AtomicLong stampSequence = new AtomicLong();
+    private final ConcurrentMap<Long, Long> userStamps = new ConcurrentHashMap<>();
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(r -> new Thread(r, "todo-toggle-flush"));
+    private volatile ConcurrentMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    private volatile Map<Long, Pending> flushing = Map.of();
+    private volatile boolean ready;
+
+    public TodoToggleBuffer(TodoRepository todoRepository,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${todo.writeBehind.enabled:false}") boolean enabled,
+                            @Value("${todo.writeBehind.maxEntries:500}") int maxEntries,
+                            @Value("${todo.writeBehind.walFile:data/todo-toggle.wal}") String walFile,
+                            @Value("${todo.writeBehind.walSync:true}") boolean walSync) {
+        this.todoRepository = todoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.wal = new TodoToggleWal(Path.of(walFile), walSync);
+        for (int i = 0; i < WRITE_STRIPES; i++) {
+            userLocks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Replays the WAL once every listener is registered, so the recovery events reach stats, sync and push.
+     * Until then toggles go straight to the database; the replay skips rows modified since startup so it
+     * cannot overwrite those writes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() throws IOException {
+        if (!enabled) return;
+        Map<Long, TodoToggleWal.Entry> entries = wal.recover();
+        if (!entries.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> args = new ArrayList<>();
+            List<Long> owners = new ArrayList<>();
+            entries.forEach((todoId, entry) -> {
+                args.add(new Object[]{entry.isDone().name(), now, todoId, entry.userId(), startedAt});
+                owners.add(entry.userId());
+            });
+            Map<Long, Integer> perUser = new HashMap<>();
+            flushTransaction.executeWithoutResult(status -> {
+                int[] counts = jdbcTemplate.batchUpdate(RECOVER_SQL, args);
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] != 0) perUser.merge(owners.get(i), 1, Integer::sum);
+                }
+                perUser.forEach((userId, count) -> eventPublisher.publishEvent(new TodoBulkChangedEvent(userId, count)));
+            });
+            log.info("Recovered buffered todo toggles from WAL. todos={}, users={}", entries.size(), perUser.size());
+        }
+        wal.truncateAll();
+        ready = true;
+    }
+
+    public boolean isEnabled() {
+        return enabled && ready;
+    }
+
+    /**
+     * The base row is loaded and the flip recorded under the user's stripe lock, so a concurrent
+     * {@link #writeThrough} either drains this toggle or is seen by it, never neither.
+     */
+    public TodoResponseDto toggle(Long userId, Long todoId) {
+        Pending recorded;
+        long[] position = new long[1];
+        ReentrantReadWriteLock.ReadLock userLock = userLock(userId).readLock();
+        userLock.lock();
+        try {
+            TodoResponseDto base = current(userId, todoId);
+            if (base == null) {
+                base = todoRepository.findDtoByIdAndUserId(todoId, userId)
+                        .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "할 일을 찾을 수 없습니다."));
+            }
+            TodoResponseDto loaded = base;
+            swapLock.readLock().lock();
+            try {
+                recorded = pending.compute(todoId, (id, existing) -> {
+                    if (existing != null && !existing.userId().equals(userId)) {
+                        throw new ApiException(HttpStatus.NOT_FOUND, "할 일을 찾을 수 없습니다.");
+                    }
+                    TodoResponseDto from = existing != null ? existing.latest() : loaded;
+                    TodoResponseDto next = flip(from);
+                    position[0] = wal.appendToggle(todoId, userId, next.isDone());
+                    return new Pending(userId, existing != null ? existing.persisted() : loaded, next);
+                });
+                userStamps.put(userId, stampSequence.incrementAndGet());
+            } finally {
+                swapLock.readLock().unlock();
+            }
+        } finally {
+            userLock.unlock();
+        }
+        wal.awaitDurable(position[0]);
+        if (pending.size() >= maxEntries && !flushLock.isLocked()) {
+            flusher.execute(this::flush);
+        }
+        return recorded.latest();
+    }
+
+    /**
+     * Runs a direct write of the user's todos while holding off their toggles. The write should drain
+     * the rows it touches first; toggles arriving meanwhile load their base after it commits.
+     */
+    public <T> T writeThrough(Long userId, Supplier<T> write) {
+        if (!enabled) return write.get();
+        ReentrantReadWriteLock.WriteLock userLock = userLock(userId).writeLock();
+        userLock.lock();
+        try {
+            return write.get();
+        } finally {
+            userLock.unlock();
+        }
+    }
+
+    public TodoResponseDto overlay(TodoResponseDto todo) {
+        if (!enabled || todo == null) return todo;
+        Pending entry = lookup(todo.id());
+        return entry == null ? todo : entry.latest();
+    }
+
+    public List<TodoResponseDto> overlay(List<TodoResponseDto> todos) {
+        if (!enabled || (pending.isEmpty() && flushing.isEmpty())) return todos;
+        return todos.stream().map(this::overlay).toList();
+    }
+
+    public long pendingStamp(Long userId) {
+        if (!enabled) return 0;
+        Long stamp = userStamps.get(userId);
+        return stamp != null ? stamp : 0;
+    }
+
+    public void drainTodo(Long todoId) {
+        if (!enabled) return;
+        drain(entry -> entry.getKey().equals(todoId));
+    }
+
+    public void drainUser(Long userId) {
+        if (!enabled || !userStamps.containsKey(userId)) return;
+        drain(entry -> entry.getValue().userId().equals(userId));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.writeBehind.flushMillis:1000}")
+    public void scheduledFlush() {
+        if (isEnabled()) flush();
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Pending> snapshot;
+            swapLock.writeLock().lock();
+            try {
+                if (pending.isEmpty()) return;
+                snapshot = pending;
+                flushing = snapshot;
+                pending = new ConcurrentHashMap<>();
+                wal.rotate();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            try {
+                write(snapshot);
+                wal.completeFlush();
+            } catch (RuntimeException e) {
+                log.error("Todo toggle flush failed; re-queueing. todos={}, cause={}", snapshot.size(), e.getMessage());
+                requeue(snapshot);
+                wal.completeFlush();
+            } finally {
+                flushing = Map.of();
+            }
+            releaseStamps(snapshot);
+        } catch (IOException e) {
+            log.error("Todo toggle WAL rotation failed: {}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        flusher.shutdown();
+        if (!isEnabled()) return;
+        flush();
+        wal.close();
+    }
+
+    private void drain(Predicate<Map.Entry<Long, Pending>> filter) {
+        flushLock.lock();
+        try {
+            Map<Long, Pending> drained = new HashMap<>();
+            swapLock.writeLock().lock();
+            try {
+                pending.entrySet().removeIf(entry -> {
+                    if (!filter.test(entry)) return false;
+                    drained.put(entry.getKey(), entry.getValue());
+                    return true;
+                });
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            if (drained.isEmpty()) return;
+            try {
+                write(drained);
+            } catch (RuntimeException e) {
+                requeue(drained);
+                throw e;
+            }
+            long position = 0;
+            for (Long todoId : drained.keySet()) {
+                position = wal.appendClear(todoId);
+            }
+            wal.awaitDurable(position);
+            releaseStamps(drained);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(Map<Long, Pending> entries) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>();
+        List<Pending> changed = new ArrayList<>();
+        entries.forEach((todoId, entry) -> {
+            if (entry.persisted().isDone() == entry.latest().isDone()) return;
+            args.add(new Object[]{entry.latest().isDone().name(), now, todoId, entry.userId()});
+            changed.add(entry);
+        });
+        if (args.isEmpty()) return;
+        flushTransaction.executeWithoutResult(status -> {
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) continue;
+                Pending entry = changed.get(i);
+                eventPublisher.publishEvent(TodoChangedEvent.updated(entry.userId(), entry.persisted(), entry.latest()));
+            }
+        });
+    }
+
+    private void requeue(Map<Long, Pending> entries) {
+        long position = 0;
+        swapLock.readLock().lock();
+        try {
+            entries.forEach((todoId, entry) -> pending.merge(todoId, entry,
+                    (newer, older) -> new Pending(newer.userId(), older.persisted(), newer.latest())));
+            for (Long todoId : entries.keySet()) {
+                Pending current = pending.get(todoId);
+                if (current != null) position = wal.appendToggle(todoId, current.userId(), current.latest().isDone());
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        wal.awaitDurable(position);
+    }
+
+    private TodoResponseDto current(Long userId, Long todoId) {
+        Pending entry = lookup(todoId);
+        if (entry == null) return null;
+        if (!entry.userId().equals(userId)) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "할 일을 찾을 수 없습니다.");
+        }
+        return entry.latest();
+    }
+
+    private ReentrantReadWriteLock userLock(Long userId) {
+        return userLocks[(int) (userId ^ (userId >>> 32)) & (WRITE_STRIPES - 1)];
+    }
+
+    private Pending lookup(Long todoId) {
+        Pending entry = pending.get(todoId);
+        return entry != null ? entry : flushing.get(todoId);
+    }
+
+    private void releaseStamps(Map<Long, Pending> written) {
+        swapLock.writeLock().lock();
+        try {
+            Set<Long> stillBuffered = pending.values().stream().map(Pending::userId).collect(Collectors.toSet());
+            written.values().stream()
+                    .map(Pending::userId)
+                    .distinct()
+                    .filter(userId -> !stillBuffered.contains(userId))
+                    .forEach(userStamps::remove);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static TodoResponseDto flip(TodoResponseDto todo) {
+        IsDone next = todo.isDone() == IsDone.Completed ? IsDone.Uncompleted : IsDone.Completed;
+        return new TodoResponseDto(todo.id(), todo.title(), todo.start(), todo.end(), next);
+    }
+}
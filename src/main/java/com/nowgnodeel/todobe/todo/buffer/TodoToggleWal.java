@@ -0,0 +1,167 @@
+package com.nowgnodeel.todobe.todo.buffer;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only toggle log with group commit: appends only write to the page cache and return a position,
+ * and {@link #awaitDurable} fsyncs once for every caller whose position the force covers.
+ */
+class TodoToggleWal {
+
+    record Entry(Long userId, IsDone isDone) {
+    }
+
+    private final Path path;
+    private final Path flushingPath;
+    private final boolean sync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private FileChannel channel;
+    private long appended;
+    private volatile long synced;
+
+    TodoToggleWal(Path path, boolean sync) {
+        this.path = path;
+        this.flushingPath = path.resolveSibling(path.getFileName() + ".flushing");
+        this.sync = sync;
+    }
+
+    Map<Long, Entry> recover() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        replay(flushingPath, entries);
+        replay(path, entries);
+        return entries;
+    }
+
+    void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    long appendToggle(Long todoId, Long userId, IsDone isDone) {
+        return append("T " + todoId + " " + userId + " " + isDone.name() + "\n");
+    }
+
+    long appendClear(Long todoId) {
+        return append("C " + todoId + "\n");
+    }
+
+    void awaitDurable(long position) {
+        if (!sync || synced >= position) return;
+        syncLock.lock();
+        try {
+            if (synced >= position) return;
+            FileChannel current;
+            long target;
+            lock.lock();
+            try {
+                current = channel;
+                target = appended;
+            } finally {
+                lock.unlock();
+            }
+            current.force(false);
+            synced = target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    void rotate() throws IOException {
+        syncLock.lock();
+        lock.lock();
+        try {
+            if (sync) channel.force(false);
+            synced = appended;
+            channel.close();
+            Files.move(path, flushingPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            open();
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    void completeFlush() throws IOException {
+        Files.deleteIfExists(flushingPath);
+    }
+
+    void truncateAll() throws IOException {
+        syncLock.lock();
+        lock.lock();
+        try {
+            if (channel != null) channel.close();
+            Files.deleteIfExists(flushingPath);
+            Files.deleteIfExists(path);
+            open();
+            synced = appended;
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    void close() throws IOException {
+        syncLock.lock();
+        lock.lock();
+        try {
+            if (channel != null) {
+                if (sync && channel.isOpen()) channel.force(false);
+                channel.close();
+            }
+            synced = appended;
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    private long append(String line) {
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        lock.lock();
+        try {
+            while (buffer.hasRemaining()) {
+                appended += channel.write(buffer);
+            }
+            return appended;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void replay(Path file, Map<Long, Entry> entries) throws IOException {
+        if (!Files.exists(file)) return;
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            String[] parts = line.split(" ");
+            try {
+                if (parts.length == 4 && parts[0].equals("T")) {
+                    entries.put(Long.parseLong(parts[1]), new Entry(Long.parseLong(parts[2]), IsDone.valueOf(parts[3])));
+                } else if (parts.length == 2 && parts[0].equals("C")) {
+                    entries.remove(Long.parseLong(parts[1]));
+                }
+            } catch (IllegalArgumentException e) {
+                // a torn final line from a crash mid-append
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.nowgnodeel.todobe.todo.common;
+
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ApiException(HttpStatus.BAD_REQUEST, "지원하지 않는 형식입니다.");
+    }
+}
@@ -0,0 +1,70 @@
+package com.nowgnodeel.todobe.todo.common;
+
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+public record TodoSyncCursor(LocalDateTime at, boolean deleted, Long id) implements Comparable<TodoSyncCursor> {
+
+    private static final String SEPARATOR = "|";
+
+    public static TodoSyncCursor initial() {
+        return new TodoSyncCursor(LocalDateTime.of(1970, 1, 1, 0, 0), false, 0L);
+    }
+
+    public Long todoAfterId() {
+        return deleted ? Long.MAX_VALUE : id;
+    }
+
+    public Long tombstoneAfterId() {
+        return deleted ? id : 0L;
+    }
+
+    @Override
+    public int compareTo(TodoSyncCursor other) {
+        int result = at.compareTo(other.at);
+        if (result != 0) return result;
+        result = Boolean.compare(deleted, other.deleted);
+        return result != 0 ? result : id.compareTo(other.id);
+    }
+
+    /**
+     * Merges two keyset-ordered pages into one ascending sequence of at most {@code pageSize} keys.
+     * On equal timestamps an upsert sorts before a tombstone, matching {@link #compareTo}.
+     */
+    public static List<TodoSyncCursor> merge(List<TodoSyncCursor> rows, List<TodoSyncCursor> tombstones, int pageSize) {
+        List<TodoSyncCursor> merged = new ArrayList<>(Math.min(pageSize, rows.size() + tombstones.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < pageSize && (i < rows.size() || j < tombstones.size())) {
+            if (j >= tombstones.size() || (i < rows.size() && rows.get(i).compareTo(tombstones.get(j)) < 0)) {
+                merged.add(rows.get(i++));
+            } else {
+                merged.add(tombstones.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    public String encode() {
+        String raw = at + SEPARATOR + (deleted ? "d" : "u") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoSyncCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !(parts[1].equals("d") || parts[1].equals("u"))) {
+                throw new IllegalArgumentException();
+            }
+            return new TodoSyncCursor(LocalDateTime.parse(parts[0]), parts[1].equals("d"), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
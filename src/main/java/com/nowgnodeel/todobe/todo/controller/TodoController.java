@@ -1,9 +1,156 @@
 package com.nowgnodeel.todobe.todo.controller;
 
+import com.nowgnodeel.todobe.auth.config.security.UserDetailsImpl;
+import com.nowgnodeel.todobe.todo.common.ExportFormat;
+import com.nowgnodeel.todobe.todo.dto.TodoBatchCreateResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoBulkStatusRequestDto;
+import com.nowgnodeel.todobe.todo.dto.TodoBulkStatusResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoCreateRequestDto;
+import com.nowgnodeel.todobe.todo.dto.TodoPageResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoStatResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoStreamTicketResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoSyncResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoUpdateRequestDto;
+import com.nowgnodeel.todobe.todo.push.TodoPushHub;
+import com.nowgnodeel.todobe.todo.push.TodoStreamTicketService;
+import com.nowgnodeel.todobe.todo.service.TodoExportService;
+import com.nowgnodeel.todobe.todo.service.TodoService;
+import com.nowgnodeel.todobe.todo.service.TodoStatService;
+import com.nowgnodeel.todobe.todo.service.TodoSyncService;
+import com.nowgnodeel.todobe.todo.service.TodoVersionService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
+@RequestMapping("/api/v1/todos")
 public class TodoController {
+
+    private final TodoService todoService;
+    private final TodoStatService todoStatService;
+    private final TodoExportService todoExportService;
+    private final TodoVersionService todoVersionService;
+    private final TodoSyncService todoSyncService;
+    private final TodoPushHub todoPushHub;
+    private final TodoStreamTicketService todoStreamTicketService;
+
+    @GetMapping
+    public ResponseEntity<TodoPageResponseDto> getTodos(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int size,
+                                                        @AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                        WebRequest webRequest) {
+        String etag = todoVersionService.etag(userDetails.getId());
+        if (webRequest.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().eTag(etag).body(todoService.getTodos(userDetails.getId(), cursor, size));
+    }
+
+    @GetMapping("/sync")
+    public ResponseEntity<TodoSyncResponseDto> sync(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "200") int size,
+                                                    @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(todoSyncService.getChanges(userDetails.getId(), cursor, size));
+    }
+
+    @PostMapping("/stream/ticket")
+    public ResponseEntity<TodoStreamTicketResponseDto> issueStreamTicket(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(todoStreamTicketService.issue(userDetails));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) String ticket,
+                             @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return todoPushHub.subscribe(todoStreamTicketService.resolveUserId(userDetails, ticket));
+    }
+
+    @GetMapping("/range")
+    public ResponseEntity<List<TodoResponseDto>> getTodosBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            WebRequest webRequest) {
+        String etag = todoVersionService.etag(userDetails.getId());
+        if (webRequest.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().eTag(etag).body(todoService.getTodosBetween(userDetails.getId(), from, to));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<TodoResponseDto>> search(@RequestParam String q,
+                                                        @RequestParam(defaultValue = "20") int size,
+                                                        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(todoService.search(userDetails.getId(), q, size));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TodoStatResponseDto> getStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(todoStatService.getStats(userDetails.getId(), from, to));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"")
+                .body(todoExportService.export(userDetails.getId(), exportFormat));
+    }
+
+    @GetMapping("/{todoId}")
+    public ResponseEntity<TodoResponseDto> getTodo(@PathVariable Long todoId, @AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                   WebRequest webRequest) {
+        String etag = todoVersionService.etag(userDetails.getId());
+        if (webRequest.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().eTag(etag).body(todoService.getTodo(userDetails.getId(), todoId));
+    }
+
+    @PostMapping
+    public ResponseEntity<TodoResponseDto> create(@RequestBody TodoCreateRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(todoService.create(userDetails.getId(), requestDto));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<TodoBatchCreateResponseDto> createAll(@RequestBody List<TodoCreateRequestDto> requestDtos,
+                                                                @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(todoService.createAll(userDetails.getId(), requestDtos));
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<TodoBulkStatusResponseDto> updateStatus(@RequestBody TodoBulkStatusRequestDto requestDto,
+                                                                  @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(todoService.updateStatus(userDetails.getId(), requestDto));
+    }
+
+    @PatchMapping("/{todoId}")
+    public ResponseEntity<TodoResponseDto> update(@PathVariable Long todoId, @RequestBody TodoUpdateRequestDto requestDto,
+                                                  @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(todoService.update(userDetails.getId(), todoId, requestDto));
+    }
+
+    @PatchMapping("/{todoId}/toggle")
+    public ResponseEntity<TodoResponseDto> toggle(@PathVariable Long todoId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(todoService.toggle(userDetails.getId(), todoId));
+    }
+
+    @DeleteMapping("/{todoId}")
+    public ResponseEntity<Void> delete(@PathVariable Long todoId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        todoService.delete(userDetails.getId(), todoId);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,11 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import java.util.List;
+
+public record TodoBatchCreateResponseDto(
+        int requested,
+        int created,
+        int failed,
+        List<TodoBatchItemResultDto> results
+) {
+}
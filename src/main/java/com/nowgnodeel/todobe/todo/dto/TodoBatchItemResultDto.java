@@ -0,0 +1,15 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+public record TodoBatchItemResultDto(
+        int index,
+        Long id,
+        String error
+) {
+    public static TodoBatchItemResultDto created(int index, Long id) {
+        return new TodoBatchItemResultDto(index, id, null);
+    }
+
+    public static TodoBatchItemResultDto failed(int index, String error) {
+        return new TodoBatchItemResultDto(index, null, error);
+    }
+}
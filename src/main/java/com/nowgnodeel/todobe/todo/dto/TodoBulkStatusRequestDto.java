@@ -0,0 +1,14 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TodoBulkStatusRequestDto(
+        List<Long> ids,
+        LocalDateTime from,
+        LocalDateTime to,
+        IsDone isDone
+) {
+}
@@ -0,0 +1,9 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+
+public record TodoBulkStatusResponseDto(
+        IsDone isDone,
+        int updated
+) {
+}
@@ -0,0 +1,10 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import java.time.LocalDate;
+
+public record TodoDailyStatDto(
+        LocalDate date,
+        long completed,
+        long uncompleted
+) {
+}
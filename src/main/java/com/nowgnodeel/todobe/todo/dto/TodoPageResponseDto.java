@@ -0,0 +1,9 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import java.util.List;
+
+public record TodoPageResponseDto(
+        List<TodoResponseDto> todos,
+        String nextCursor
+) {
+}
@@ -0,0 +1,13 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+public record TodoPushEventDto(
+        String type,
+        Long todoId,
+        TodoResponseDto todo,
+        Integer affected
+) {
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+    public static final String BULK = "bulk";
+}
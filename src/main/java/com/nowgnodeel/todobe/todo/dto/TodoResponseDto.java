@@ -0,0 +1,18 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.entity.Todo;
+
+import java.time.LocalDateTime;
+
+public record TodoResponseDto(
+        Long id,
+        String title,
+        LocalDateTime start,
+        LocalDateTime end,
+        IsDone isDone
+) {
+    public static TodoResponseDto from(Todo todo) {
+        return new TodoResponseDto(todo.getId(), todo.getTitle(), todo.getStart(), todo.getEnd(), todo.getIsDone());
+    }
+}
@@ -0,0 +1,19 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+
+import java.time.LocalDateTime;
+
+public record TodoSearchRowDto(
+        Long userId,
+        Long id,
+        String title,
+        LocalDateTime start,
+        LocalDateTime end,
+        IsDone isDone
+) {
+
+    public TodoResponseDto toResponse() {
+        return new TodoResponseDto(id, title, start, end, isDone);
+    }
+}
@@ -0,0 +1,10 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import java.util.List;
+
+public record TodoStatResponseDto(
+        long completed,
+        long uncompleted,
+        List<TodoDailyStatDto> days
+) {
+}
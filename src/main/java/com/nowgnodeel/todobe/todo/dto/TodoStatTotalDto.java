@@ -0,0 +1,7 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+public record TodoStatTotalDto(
+        Long completed,
+        Long uncompleted
+) {
+}
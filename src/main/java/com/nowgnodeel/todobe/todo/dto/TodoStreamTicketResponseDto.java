@@ -0,0 +1,7 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+public record TodoStreamTicketResponseDto(
+        String ticket,
+        long expiresInMillis
+) {
+}
@@ -0,0 +1,12 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import java.util.List;
+
+public record TodoSyncResponseDto(
+        List<TodoResponseDto> upserts,
+        List<Long> deleted,
+        String nextCursor,
+        boolean hasMore,
+        boolean resetRequired
+) {
+}
@@ -0,0 +1,13 @@
+package com.nowgnodeel.todobe.todo.dto;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+
+import java.time.LocalDateTime;
+
+public record TodoUpdateRequestDto(
+        String title,
+        LocalDateTime start,
+        LocalDateTime end,
+        IsDone isDone
+) {
+}
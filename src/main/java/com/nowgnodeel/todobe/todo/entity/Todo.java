@@ -3,6 +3,7 @@ package com.nowgnodeel.todobe.todo.entity;
 import com.nowgnodeel.todobe.auth.entity.User;
 import com.nowgnodeel.todobe.global.entity.Timestamped;
 import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.dto.TodoUpdateRequestDto;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,7 +17,11 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "todo")
+@Table(name = "todo", indexes = {
+        @Index(name = "idx_todo_user_start_id", columnList = "user_id, start, id"),
+        @Index(name = "idx_todo_user_start_end", columnList = "user_id, start, end"),
+        @Index(name = "idx_todo_user_modified_id", columnList = "user_id, modified_at, id")
+})
 public class Todo extends Timestamped {
 
     @Id
@@ -39,4 +44,23 @@ public class Todo extends Timestamped {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    public void update(TodoUpdateRequestDto dto) {
+        if (dto.title() != null && !dto.title().isBlank()) {
+            this.title = dto.title();
+        }
+        if (dto.start() != null) {
+            this.start = dto.start();
+        }
+        if (dto.end() != null) {
+            this.end = dto.end();
+        }
+        if (dto.isDone() != null) {
+            this.isDone = dto.isDone();
+        }
+    }
+
+    public void toggle() {
+        this.isDone = isDone == IsDone.Completed ? IsDone.Uncompleted : IsDone.Completed;
+    }
 }
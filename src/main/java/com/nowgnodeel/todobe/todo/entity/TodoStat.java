@@ -0,0 +1,30 @@
+package com.nowgnodeel.todobe.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(TodoStatId.class)
+@Table(name = "todo_stat")
+public class TodoStat {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private long completed;
+
+    @Column(nullable = false)
+    private long uncompleted;
+}
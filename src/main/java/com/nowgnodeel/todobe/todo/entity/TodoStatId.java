@@ -0,0 +1,16 @@
+package com.nowgnodeel.todobe.todo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TodoStatId implements Serializable {
+    private Long userId;
+    private LocalDate statDate;
+}
@@ -0,0 +1,28 @@
+package com.nowgnodeel.todobe.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "todo_tombstone", indexes = {
+        @Index(name = "idx_todo_tombstone_user_deleted_id", columnList = "user_id, deleted_at, todo_id"),
+        @Index(name = "idx_todo_tombstone_deleted", columnList = "deleted_at")
+})
+public class TodoTombstone {
+
+    @Id
+    @Column(name = "todo_id")
+    private Long todoId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
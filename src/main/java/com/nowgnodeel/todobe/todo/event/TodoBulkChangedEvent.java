@@ -0,0 +1,12 @@
+package com.nowgnodeel.todobe.todo.event;
+
+public record TodoBulkChangedEvent(
+        Long userId,
+        int affected,
+        boolean statsApplied
+) {
+
+    public TodoBulkChangedEvent(Long userId, int affected) {
+        this(userId, affected, false);
+    }
+}
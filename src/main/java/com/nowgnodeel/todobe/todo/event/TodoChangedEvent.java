@@ -0,0 +1,25 @@
+package com.nowgnodeel.todobe.todo.event;
+
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+
+public record TodoChangedEvent(
+        Long userId,
+        TodoResponseDto before,
+        TodoResponseDto after
+) {
+    public static TodoChangedEvent created(Long userId, TodoResponseDto after) {
+        return new TodoChangedEvent(userId, null, after);
+    }
+
+    public static TodoChangedEvent updated(Long userId, TodoResponseDto before, TodoResponseDto after) {
+        return new TodoChangedEvent(userId, before, after);
+    }
+
+    public static TodoChangedEvent deleted(Long userId, TodoResponseDto before) {
+        return new TodoChangedEvent(userId, before, null);
+    }
+
+    public Long todoId() {
+        return after != null ? after.id() : before.id();
+    }
+}
@@ -0,0 +1,94 @@
+package com.nowgnodeel.todobe.todo.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.event.TodoBulkChangedEvent;
+import com.nowgnodeel.todobe.todo.event.TodoChangedEvent;
+import com.nowgnodeel.todobe.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class TodoIntervalIndex {
+
+    private static final TodoIntervalTree UNAVAILABLE = TodoIntervalTree.of(List.of());
+    private static final int CHANGE_STRIPES = 1024;
+
+    private final TodoRepository todoRepository;
+    private final boolean enabled;
+    private final int maxEntriesPerUser;
+    private final Cache<Long, TodoIntervalTree> trees;
+    private final AtomicLongArray changes = new AtomicLongArray(CHANGE_STRIPES);
+
+    public TodoIntervalIndex(TodoRepository todoRepository,
+                             @Value("${todo.intervalIndex.enabled:false}") boolean enabled,
+                             @Value("${todo.intervalIndex.maxUsers:1000}") long maxUsers,
+                             @Value("${todo.intervalIndex.maxEntriesPerUser:5000}") int maxEntriesPerUser,
+                             @Value("${todo.intervalIndex.idleMillis:600000}") long idleMillis) {
+        this.todoRepository = todoRepository;
+        this.enabled = enabled;
+        this.maxEntriesPerUser = maxEntriesPerUser;
+        this.trees = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMillis(idleMillis))
+                .build();
+    }
+
+    public List<TodoResponseDto> findOverlapping(Long userId, LocalDateTime from, LocalDateTime to) {
+        if (enabled) {
+            TodoIntervalTree tree = trees.getIfPresent(userId);
+            if (tree == null) {
+                tree = load(userId);
+            }
+            if (tree != UNAVAILABLE) {
+                return tree.findOverlapping(from, to);
+            }
+        }
+        return todoRepository.findOverlapping(userId, from, to);
+    }
+
+    public void evict(Long userId) {
+        changes.incrementAndGet(stripe(userId));
+        trees.invalidate(userId);
+    }
+
+    @TransactionalEventListener
+    public void onTodoChanged(TodoChangedEvent event) {
+        changes.incrementAndGet(stripe(event.userId()));
+        trees.asMap().computeIfPresent(event.userId(), (userId, tree) -> {
+            if (tree == UNAVAILABLE) return tree;
+            TodoIntervalTree next = tree.with(event.before(), event.after());
+            return next.size() > maxEntriesPerUser ? UNAVAILABLE : next;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onTodoBulkChanged(TodoBulkChangedEvent event) {
+        evict(event.userId());
+    }
+
+    private TodoIntervalTree load(Long userId) {
+        int stripe = stripe(userId);
+        long observed = changes.get(stripe);
+        List<TodoResponseDto> todos = todoRepository.findFirstPage(userId, Limit.of(maxEntriesPerUser + 1));
+        TodoIntervalTree loaded = todos.size() > maxEntriesPerUser ? UNAVAILABLE : TodoIntervalTree.of(todos);
+        // A change committed while loading may predate this read; cache only if none was seen.
+        trees.asMap().compute(userId, (id, existing) -> {
+            if (existing != null) return existing;
+            return changes.get(stripe) == observed ? loaded : null;
+        });
+        return loaded;
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId ^ (userId >>> 32)) & (CHANGE_STRIPES - 1);
+    }
+}
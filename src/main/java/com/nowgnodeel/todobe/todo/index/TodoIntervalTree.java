@@ -0,0 +1,81 @@
+package com.nowgnodeel.todobe.todo.index;
+
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public final class TodoIntervalTree {
+
+    private static final Comparator<TodoResponseDto> ORDER =
+            Comparator.comparing(TodoResponseDto::start).thenComparing(TodoResponseDto::id);
+
+    private final TodoResponseDto[] entries;
+    private final LocalDateTime[] maxEnd;
+
+    private TodoIntervalTree(TodoResponseDto[] entries) {
+        this.entries = entries;
+        this.maxEnd = new LocalDateTime[entries.length];
+        buildMaxEnd(0, entries.length);
+    }
+
+    public static TodoIntervalTree of(Collection<TodoResponseDto> todos) {
+        TodoResponseDto[] sorted = todos.toArray(new TodoResponseDto[0]);
+        Arrays.sort(sorted, ORDER);
+        return new TodoIntervalTree(sorted);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public List<TodoResponseDto> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<TodoResponseDto> result = new ArrayList<>();
+        collect(0, entries.length, from, to, result);
+        return result;
+    }
+
+    public TodoIntervalTree with(TodoResponseDto before, TodoResponseDto after) {
+        List<TodoResponseDto> next = new ArrayList<>(entries.length + 1);
+        for (TodoResponseDto entry : entries) {
+            boolean replaced = (before != null && entry.id().equals(before.id()))
+                    || (after != null && entry.id().equals(after.id()));
+            if (!replaced) {
+                next.add(entry);
+            }
+        }
+        if (after != null) {
+            next.add(after);
+        }
+        return of(next);
+    }
+
+    private LocalDateTime buildMaxEnd(int lo, int hi) {
+        if (lo >= hi) return null;
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime max = entries[mid].end();
+        LocalDateTime left = buildMaxEnd(lo, mid);
+        LocalDateTime right = buildMaxEnd(mid + 1, hi);
+        if (left != null && left.isAfter(max)) max = left;
+        if (right != null && right.isAfter(max)) max = right;
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, LocalDateTime from, LocalDateTime to, List<TodoResponseDto> result) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid].isBefore(from)) return;
+        collect(lo, mid, from, to, result);
+        TodoResponseDto entry = entries[mid];
+        if (!entry.start().isBefore(to)) return;
+        if (!entry.end().isBefore(from)) {
+            result.add(entry);
+        }
+        collect(mid + 1, hi, from, to, result);
+    }
+}
@@ -0,0 +1,36 @@
+package com.nowgnodeel.todobe.todo.push;
+
+import com.nowgnodeel.todobe.todo.dto.TodoPushEventDto;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+public class InMemoryTodoEventBroker implements TodoEventBroker {
+
+    private final ConcurrentMap<Long, Set<Consumer<TodoPushEventDto>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(Long userId, TodoPushEventDto event) {
+        Set<Consumer<TodoPushEventDto>> subscribers = listeners.get(userId);
+        if (subscribers == null) return;
+        for (Consumer<TodoPushEventDto> subscriber : subscribers) {
+            subscriber.accept(event);
+        }
+    }
+
+    @Override
+    public Runnable subscribe(Long userId, Consumer<TodoPushEventDto> listener) {
+        listeners.compute(userId, (k, subscribers) -> {
+            Set<Consumer<TodoPushEventDto>> next = subscribers != null ? subscribers : new CopyOnWriteArraySet<>();
+            next.add(listener);
+            return next;
+        });
+        return () -> listeners.computeIfPresent(userId, (k, subscribers) -> {
+            subscribers.remove(listener);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
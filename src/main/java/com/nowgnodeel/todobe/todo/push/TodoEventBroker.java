@@ -0,0 +1,12 @@
+package com.nowgnodeel.todobe.todo.push;
+
+import com.nowgnodeel.todobe.todo.dto.TodoPushEventDto;
+
+import java.util.function.Consumer;
+
+public interface TodoEventBroker {
+
+    void publish(Long userId, TodoPushEventDto event);
+
+    Runnable subscribe(Long userId, Consumer<TodoPushEventDto> listener);
+}
@@ -0,0 +1,15 @@
+package com.nowgnodeel.todobe.todo.push;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TodoPushConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "todo.push.broker", havingValue = "in-memory", matchIfMissing = true)
+    public TodoEventBroker todoEventBroker() {
+        return new InMemoryTodoEventBroker();
+    }
+}
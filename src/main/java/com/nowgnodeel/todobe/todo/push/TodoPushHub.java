@@ -0,0 +1,212 @@
+package com.nowgnodeel.todobe.todo.push;
+
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import com.nowgnodeel.todobe.todo.dto.TodoPushEventDto;
+import com.nowgnodeel.todobe.todo.event.TodoBulkChangedEvent;
+import com.nowgnodeel.todobe.todo.event.TodoChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class TodoPushHub {
+
+    private static final TodoPushEventDto HEARTBEAT = new TodoPushEventDto("heartbeat", null, null, null);
+    private static final TodoPushEventDto OVERFLOW = new TodoPushEventDto("overflow", null, null, null);
+
+    private final TodoEventBroker todoEventBroker;
+    private final ExecutorService sender;
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${todo.push.timeoutMillis:1800000}")
+    private long timeoutMillis;
+
+    @Value("${todo.push.queueCapacity:256}")
+    private int queueCapacity;
+
+    @Value("${todo.push.maxSubscribersPerUser:5}")
+    private int maxSubscribersPerUser;
+
+    @Value("${todo.push.sendTimeoutMillis:10000}")
+    private long sendTimeoutMillis;
+
+    /**
+     * Drains run on their own thread per busy subscriber, so a client that stops reading holds one sender
+     * thread instead of starving everyone behind it on a small fixed pool.
+     */
+    public TodoPushHub(TodoEventBroker todoEventBroker,
+                       @Value("${todo.push.senderThreads:2}") int senderThreads,
+                       @Value("${todo.push.maxSenderThreads:256}") int maxSenderThreads) {
+        this.todoEventBroker = todoEventBroker;
+        this.sender = new ThreadPoolExecutor(senderThreads, Math.max(senderThreads, maxSenderThreads), 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("todo-push-"));
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(queueCapacity));
+        subscribers.compute(userId, (k, current) -> {
+            Set<Subscriber> next = current != null ? current : ConcurrentHashMap.newKeySet();
+            if (next.size() >= maxSubscribersPerUser) {
+                throw new ApiException(HttpStatus.TOO_MANY_REQUESTS, "동시 구독 수를 초과했습니다.");
+            }
+            next.add(subscriber);
+            return next;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        Runnable unsubscribe = todoEventBroker.subscribe(userId, subscriber::offer);
+        subscriber.unsubscribe = unsubscribe;
+        if (subscriber.closed.get()) {
+            unsubscribe.run();
+        }
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTodoChanged(TodoChangedEvent event) {
+        String type = event.before() == null ? TodoPushEventDto.CREATED
+                : event.after() == null ? TodoPushEventDto.DELETED : TodoPushEventDto.UPDATED;
+        todoEventBroker.publish(event.userId(), new TodoPushEventDto(type, event.todoId(), event.after(), null));
+    }
+
+    @TransactionalEventListener
+    public void onTodoBulkChanged(TodoBulkChangedEvent event) {
+        todoEventBroker.publish(event.userId(), new TodoPushEventDto(TodoPushEventDto.BULK, null, null, event.affected()));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.push.heartbeatMillis:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.push.sendCheckMillis:1000}")
+    public void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.closeIfStalled(now, timeoutNanos)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdown();
+    }
+
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TodoPushEventDto> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Runnable unsubscribe;
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long userId, SseEmitter emitter, BlockingQueue<TodoPushEventDto> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private void offer(TodoPushEventDto event) {
+            if (closed.get()) return;
+            while (!queue.offer(event)) {
+                if (event == HEARTBEAT) return;
+                queue.poll();
+                overflowed.set(true);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    log.debug("Todo push sender saturated; drain deferred. userId={}", userId);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                TodoPushEventDto event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    if (overflowed.getAndSet(false)) {
+                        send(OVERFLOW);
+                    }
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Todo push subscriber disconnected. userId={}", userId);
+                if (close()) emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(TodoPushEventDto event) throws IOException {
+            sendStartedAt = System.nanoTime();
+            try {
+                if (event == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send(SseEmitter.event().name(event.type()).data(event, MediaType.APPLICATION_JSON));
+                }
+            } finally {
+                sendStartedAt = 0L;
+            }
+        }
+
+        private void closeIfStalled(long now, long timeoutNanos) {
+            long startedAt = sendStartedAt;
+            if (startedAt == 0L || now - startedAt <= timeoutNanos) return;
+            if (close()) {
+                log.warn("Todo push subscriber closed after a stalled send. userId={}", userId);
+                emitter.completeWithError(new TimeoutException("SSE send exceeded " + sendTimeoutMillis + "ms"));
+            }
+        }
+
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) return false;
+            Runnable current = unsubscribe;
+            if (current != null) current.run();
+            subscribers.computeIfPresent(userId, (k, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            queue.clear();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.nowgnodeel.todobe.todo.push;
+
+import com.nowgnodeel.todobe.auth.config.security.UserDetailsImpl;
+import com.nowgnodeel.todobe.auth.jwt.JwtTokenProvider;
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import com.nowgnodeel.todobe.todo.dto.TodoStreamTicketResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TodoStreamTicketService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public TodoStreamTicketResponseDto issue(UserDetailsImpl principal) {
+        return new TodoStreamTicketResponseDto(jwtTokenProvider.createStreamTicket(principal),
+                jwtTokenProvider.getStreamTicketValidityMs());
+    }
+
+    public Long resolveUserId(UserDetailsImpl principal, String ticket) {
+        if (principal != null) return principal.getId();
+        Long userId = jwtTokenProvider.resolveStreamTicket(ticket);
+        if (userId == null) {
+            throw new ApiException(HttpStatus.UNAUTHORIZED, "스트림 티켓이 유효하지 않습니다.");
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.nowgnodeel.todobe.todo.repository;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.dto.TodoCreateRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class TodoBatchRepository {
+
+    private static final String INSERT_PREFIX =
+            "insert into todo (title, start, end, is_done, user_id, created_at, modified_at) values ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insertAll(Long userId, List<TodoCreateRequestDto> rows, LocalDateTime now) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDER));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (TodoCreateRequestDto row : rows) {
+                ps.setString(index++, row.title());
+                ps.setObject(index++, row.start());
+                ps.setObject(index++, row.end());
+                ps.setString(index++, (row.isDone() != null ? row.isDone() : IsDone.Uncompleted).name());
+                ps.setLong(index++, userId);
+                ps.setObject(index++, now);
+                ps.setObject(index++, now);
+            }
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+}
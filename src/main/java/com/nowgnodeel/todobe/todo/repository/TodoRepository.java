@@ -1,9 +1,124 @@
 package com.nowgnodeel.todobe.todo.repository;
 
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoSearchRowDto;
+import com.nowgnodeel.todobe.todo.dto.TodoSyncRowDto;
 import com.nowgnodeel.todobe.todo.entity.Todo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface TodoRepository extends JpaRepository<Todo, Long> {
+
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoResponseDto(t.id, t.title, t.start, t.end, t.isDone) " +
+            "from Todo t where t.user.id = :userId " +
+            "order by t.start, t.id")
+    List<TodoResponseDto> findFirstPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoResponseDto(t.id, t.title, t.start, t.end, t.isDone) " +
+            "from Todo t where t.user.id = :userId " +
+            "and (t.start > :start or (t.start = :start and t.id > :id)) " +
+            "order by t.start, t.id")
+    List<TodoResponseDto> findPageAfter(@Param("userId") Long userId,
+                                        @Param("start") LocalDateTime start,
+                                        @Param("id") Long id,
+                                        Limit limit);
+
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoResponseDto(t.id, t.title, t.start, t.end, t.isDone) " +
+            "from Todo t where t.id = :id and t.user.id = :userId")
+    Optional<TodoResponseDto> findDtoByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoResponseDto(t.id, t.title, t.start, t.end, t.isDone) " +
+            "from Todo t where t.user.id = :userId " +
+            "and t.start < :to and t.end >= :from " +
+            "order by t.start, t.id")
+    List<TodoResponseDto> findOverlapping(@Param("userId") Long userId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoSyncRowDto(t.id, t.title, t.start, t.end, t.isDone, t.modifiedAt) " +
+            "from Todo t where t.user.id = :userId " +
+            "and (t.modifiedAt > :since or (t.modifiedAt = :since and t.id > :afterId)) " +
+            "and t.modifiedAt < :until " +
+            "order by t.modifiedAt, t.id")
+    List<TodoSyncRowDto> findChangedSince(@Param("userId") Long userId,
+                                          @Param("since") LocalDateTime since,
+                                          @Param("afterId") Long afterId,
+                                          @Param("until") LocalDateTime until,
+                                          Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoResponseDto(t.id, t.title, t.start, t.end, t.isDone) " +
+            "from Todo t where t.user.id = :userId " +
+            "order by t.start, t.id")
+    Stream<TodoResponseDto> streamByUserId(@Param("userId") Long userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoSearchRowDto(t.user.id, t.id, t.title, t.start, t.end, t.isDone) " +
+            "from Todo t")
+    Stream<TodoSearchRowDto> streamAllForSearch();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoSearchRowDto(t.user.id, t.id, t.title, t.start, t.end, t.isDone) " +
+            "from Todo t where t.modifiedAt > :since")
+    Stream<TodoSearchRowDto> streamModifiedSince(@Param("since") LocalDateTime since);
+
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoResponseDto(t.id, t.title, t.start, t.end, t.isDone) " +
+            "from Todo t where t.user.id = :userId " +
+            "and lower(t.title) like :pattern escape '!' " +
+            "order by t.id desc")
+    List<TodoResponseDto> searchByTitle(@Param("userId") Long userId, @Param("pattern") String pattern, Limit limit);
+
+    Optional<Todo> findByIdAndUserId(Long id, Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.isDone = :isDone, t.modifiedAt = :now " +
+            "where t.user.id = :userId and t.id in :ids and t.isDone <> :isDone")
+    int updateStatusByIds(@Param("userId") Long userId,
+                          @Param("ids") Collection<Long> ids,
+                          @Param("isDone") IsDone isDone,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.isDone = :isDone, t.modifiedAt = :now " +
+            "where t.user.id = :userId and t.start < :to and t.end >= :from and t.isDone <> :isDone")
+    int updateStatusInRange(@Param("userId") Long userId,
+                            @Param("from") LocalDateTime from,
+                            @Param("to") LocalDateTime to,
+                            @Param("isDone") IsDone isDone,
+                            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from Todo t where t.id = :id and t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "delete from todo where user_id = :userId limit :limit", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
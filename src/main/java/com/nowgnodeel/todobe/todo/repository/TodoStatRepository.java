@@ -0,0 +1,80 @@
+package com.nowgnodeel.todobe.todo.repository;
+
+import com.nowgnodeel.todobe.todo.dto.TodoDailyStatDto;
+import com.nowgnodeel.todobe.todo.dto.TodoStatTotalDto;
+import com.nowgnodeel.todobe.todo.entity.TodoStat;
+import com.nowgnodeel.todobe.todo.entity.TodoStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TodoStatRepository extends JpaRepository<TodoStat, TodoStatId> {
+
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoDailyStatDto(s.statDate, s.completed, s.uncompleted) " +
+            "from TodoStat s where s.userId = :userId and s.statDate between :from and :to " +
+            "order by s.statDate")
+    List<TodoDailyStatDto> findDaily(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new com.nowgnodeel.todobe.todo.dto.TodoStatTotalDto(sum(s.completed), sum(s.uncompleted)) " +
+            "from TodoStat s where s.userId = :userId")
+    TodoStatTotalDto findTotal(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "insert into todo_stat (user_id, stat_date, completed, uncompleted) " +
+            "values (:userId, :statDate, greatest(:completed, 0), greatest(:uncompleted, 0)) " +
+            "on duplicate key update completed = greatest(completed + :completed, 0), " +
+            "uncompleted = greatest(uncompleted + :uncompleted, 0)", nativeQuery = true)
+    int addCounts(@Param("userId") Long userId,
+                  @Param("statDate") LocalDate statDate,
+                  @Param("completed") long completed,
+                  @Param("uncompleted") long uncompleted);
+
+    @Modifying
+    @Query(value = "insert into todo_stat (user_id, stat_date, completed, uncompleted) " +
+            "select d.user_id, d.stat_date, greatest(d.completed, 0), greatest(d.uncompleted, 0) from (" +
+            "select user_id, date(start) as stat_date, :completedDelta * count(*) as completed, " +
+            "-:completedDelta * count(*) as uncompleted " +
+            "from todo where user_id = :userId and id in (:ids) and is_done <> :isDone " +
+            "group by user_id, date(start)) d " +
+            "on duplicate key update completed = greatest(todo_stat.completed + d.completed, 0), " +
+            "uncompleted = greatest(todo_stat.uncompleted + d.uncompleted, 0)", nativeQuery = true)
+    int addStatusDeltasByIds(@Param("userId") Long userId,
+                             @Param("ids") Collection<Long> ids,
+                             @Param("isDone") String isDone,
+                             @Param("completedDelta") int completedDelta);
+
+    @Modifying
+    @Query(value = "insert into todo_stat (user_id, stat_date, completed, uncompleted) " +
+            "select d.user_id, d.stat_date, greatest(d.completed, 0), greatest(d.uncompleted, 0) from (" +
+            "select user_id, date(start) as stat_date, :completedDelta * count(*) as completed, " +
+            "-:completedDelta * count(*) as uncompleted " +
+            "from todo where user_id = :userId and start < :to and end >= :from and is_done <> :isDone " +
+            "group by user_id, date(start)) d " +
+            "on duplicate key update completed = greatest(todo_stat.completed + d.completed, 0), " +
+            "uncompleted = greatest(todo_stat.uncompleted + d.uncompleted, 0)", nativeQuery = true)
+    int addStatusDeltasInRange(@Param("userId") Long userId,
+                               @Param("from") LocalDateTime from,
+                               @Param("to") LocalDateTime to,
+                               @Param("isDone") String isDone,
+                               @Param("completedDelta") int completedDelta);
+
+    @Modifying
+    @Query(value = "delete from todo_stat where user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "insert into todo_stat (user_id, stat_date, completed, uncompleted) " +
+            "select user_id, date(start), " +
+            "sum(case when is_done = 'Completed' then 1 else 0 end), " +
+            "sum(case when is_done = 'Uncompleted' then 1 else 0 end) " +
+            "from todo where user_id = :userId group by user_id, date(start)", nativeQuery = true)
+    int insertRecomputed(@Param("userId") Long userId);
+}
@@ -0,0 +1,49 @@
+package com.nowgnodeel.todobe.todo.repository;
+
+import com.nowgnodeel.todobe.todo.entity.TodoTombstone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+
+    @Query("select t from TodoTombstone t where t.userId = :userId " +
+            "and (t.deletedAt > :since or (t.deletedAt = :since and t.todoId > :afterId)) " +
+            "and t.deletedAt < :until " +
+            "order by t.deletedAt, t.todoId")
+    List<TodoTombstone> findChangedSince(@Param("userId") Long userId,
+                                         @Param("since") LocalDateTime since,
+                                         @Param("afterId") Long afterId,
+                                         @Param("until") LocalDateTime until,
+                                         Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from TodoTombstone t where t.deletedAt > :since")
+    Stream<TodoTombstone> streamDeletedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query(value = "insert into todo_tombstone (todo_id, user_id, deleted_at) values (:todoId, :userId, :deletedAt)", nativeQuery = true)
+    int insert(@Param("todoId") Long todoId, @Param("userId") Long userId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query(value = "delete from todo_tombstone where deleted_at < :before limit :limit", nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from TodoTombstone t where t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
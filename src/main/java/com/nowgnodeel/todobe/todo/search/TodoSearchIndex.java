@@ -0,0 +1,325 @@
+package com.nowgnodeel.todobe.todo.search;
+
+import com.nowgnodeel.todobe.auth.repository.UserRepository;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoSearchRowDto;
+import com.nowgnodeel.todobe.todo.entity.TodoTombstone;
+import com.nowgnodeel.todobe.todo.event.TodoBulkChangedEvent;
+import com.nowgnodeel.todobe.todo.event.TodoChangedEvent;
+import com.nowgnodeel.todobe.todo.repository.TodoRepository;
+import com.nowgnodeel.todobe.todo.repository.TodoTombstoneRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    private static final int USER_CHECK_PAGE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Path snapshotDir;
+    private final int segmentDocs;
+    private final long settleMillis;
+    private final int tombstoneRetentionDays;
+    private final int maxExpansions;
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private volatile ConcurrentMap<Long, UserTermIndex> users = new ConcurrentHashMap<>();
+    private volatile Queue<Consumer<ConcurrentMap<Long, UserTermIndex>>> replay;
+    private final ConcurrentMap<Long, Queue<Consumer<ConcurrentMap<Long, UserTermIndex>>>> reloading = new ConcurrentHashMap<>();
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(r -> new Thread(r, "todo-search-reload"));
+    private volatile boolean ready;
+
+    public TodoSearchIndex(TodoRepository todoRepository,
+                           TodoTombstoneRepository todoTombstoneRepository,
+                           UserRepository userRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${todo.search.enabled:false}") boolean enabled,
+                           @Value("${todo.search.snapshotDir:data/search}") String snapshotDir,
+                           @Value("${todo.search.segmentDocs:100000}") int segmentDocs,
+                           @Value("${todo.search.settleMillis:5000}") long settleMillis,
+                           @Value("${todo.sync.tombstoneRetentionDays:30}") int tombstoneRetentionDays,
+                           @Value("${todo.search.maxPrefixExpansions:64}") int maxExpansions) {
+        this.todoRepository = todoRepository;
+        this.todoTombstoneRepository = todoTombstoneRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.snapshotDir = Path.of(snapshotDir);
+        this.segmentDocs = segmentDocs;
+        this.settleMillis = settleMillis;
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+        this.maxExpansions = maxExpansions;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) return;
+        long startedAt = System.currentTimeMillis();
+        boolean restored = build(this::restore);
+        if (!restored) {
+            build(this::load);
+        }
+        ready = true;
+        log.info("Todo search index warmed. source={}, users={}, elapsedMs={}",
+                restored ? "snapshot" : "database", users.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    public List<TodoResponseDto> search(Long userId, String query, int limit) {
+        if (enabled && ready) {
+            UserTermIndex index = users.get(userId);
+            if (index == null) return List.of();
+            List<TodoResponseDto> hits = index.search(TodoTokenizer.clauses(query), TodoTokenizer.normalize(query), limit, maxExpansions);
+            if (hits != null) return hits;
+        }
+        return todoRepository.searchByTitle(userId, likePattern(query), Limit.of(limit));
+    }
+
+    public void rebuild() {
+        if (!enabled) return;
+        long startedAt = System.currentTimeMillis();
+        build(this::load);
+        ready = true;
+        log.info("Todo search index rebuilt. users={}, elapsedMs={}", users.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.search.snapshotMillis:600000}", initialDelayString = "${todo.search.snapshotMillis:600000}")
+    public void scheduledSnapshot() {
+        if (enabled && ready) snapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdown();
+        if (enabled && ready) snapshot();
+    }
+
+    public void snapshot() {
+        buildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime watermark = LocalDateTime.now().minusNanos(settleMillis * 1_000_000);
+            try {
+                int docs = TodoSearchSnapshot.write(snapshotDir, watermark, users, segmentDocs);
+                log.info("Todo search snapshot written. docs={}, elapsedMs={}", docs, System.currentTimeMillis() - startedAt);
+            } catch (IOException e) {
+                log.warn("Todo search snapshot failed: {}", e.getMessage());
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (!enabled) return;
+        apply(event.userId(), target -> {
+            if (event.after() != null) {
+                index(target, event.userId()).put(event.after());
+            } else if (event.before() != null) {
+                UserTermIndex index = target.get(event.userId());
+                if (index != null) index.remove(event.before().id());
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onTodoBulkChanged(TodoBulkChangedEvent event) {
+        if (!enabled) return;
+        reloader.execute(() -> reloadUser(event.userId()));
+    }
+
+    private void apply(Long userId, Consumer<ConcurrentMap<Long, UserTermIndex>> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(users);
+            Queue<Consumer<ConcurrentMap<Long, UserTermIndex>>> pending = replay;
+            if (pending != null) pending.add(change);
+            Queue<Consumer<ConcurrentMap<Long, UserTermIndex>>> reload = reloading.get(userId);
+            if (reload != null) reload.add(change);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private boolean build(Builder builder) {
+        buildLock.lock();
+        try {
+            Queue<Consumer<ConcurrentMap<Long, UserTermIndex>>> pending = new ConcurrentLinkedQueue<>();
+            replay = pending;
+            ConcurrentMap<Long, UserTermIndex> fresh = new ConcurrentHashMap<>();
+            boolean built;
+            try {
+                built = builder.build(fresh);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Todo search index build failed: {}", e.getMessage());
+                built = false;
+            }
+            swapLock.writeLock().lock();
+            try {
+                replay = null;
+                if (!built) return false;
+                pending.forEach(change -> change.accept(fresh));
+                users = fresh;
+                return true;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private boolean restore(ConcurrentMap<Long, UserTermIndex> target) throws IOException {
+        LocalDateTime watermark = TodoSearchSnapshot.read(snapshotDir, (userId, todo) -> index(target, userId).put(todo));
+        if (watermark == null) return false;
+        if (watermark.isBefore(LocalDateTime.now().minusDays(tombstoneRetentionDays))) {
+            log.info("Todo search snapshot is older than tombstone retention; rebuilding. watermark={}", watermark);
+            return false;
+        }
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TodoSearchRowDto> rows = todoRepository.streamModifiedSince(watermark)) {
+                rows.forEach(row -> index(target, row.userId()).put(row.toResponse()));
+            }
+        });
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TodoTombstone> tombstones = todoTombstoneRepository.streamDeletedSince(watermark)) {
+                tombstones.forEach(tombstone -> {
+                    UserTermIndex index = target.get(tombstone.getUserId());
+                    if (index != null) index.remove(tombstone.getTodoId());
+                });
+            }
+        });
+        dropDeletedUsers(target);
+        return true;
+    }
+
+    /**
+     * Account deletion purges the user's tombstones too, so the snapshot alone would bring a deleted
+     * account's todos back. Walks the indexed user ids against {@code users} in id order.
+     */
+    private void dropDeletedUsers(ConcurrentMap<Long, UserTermIndex> target) {
+        List<Long> indexed = target.keySet().stream().sorted().toList();
+        int next = 0;
+        int dropped = 0;
+        while (next < indexed.size()) {
+            long afterId = indexed.get(next) - 1;
+            List<Long> existing = userRepository.findIdsAfter(afterId, Limit.of(USER_CHECK_PAGE));
+            long last = existing.isEmpty() ? Long.MAX_VALUE : existing.get(existing.size() - 1);
+            Set<Long> page = new HashSet<>(existing);
+            while (next < indexed.size() && indexed.get(next) <= last) {
+                Long userId = indexed.get(next++);
+                if (!page.contains(userId)) {
+                    target.remove(userId);
+                    dropped++;
+                }
+            }
+        }
+        if (dropped > 0) {
+            log.info("Dropped deleted users from the restored search index. users={}", dropped);
+        }
+    }
+
+    private boolean load(ConcurrentMap<Long, UserTermIndex> target) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TodoSearchRowDto> rows = todoRepository.streamAllForSearch()) {
+                rows.forEach(row -> index(target, row.userId()).put(row.toResponse()));
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Runs on the reload thread. Changes to the user that land while the rows are read are recorded
+     * and replayed onto the fresh index before it replaces the live one.
+     */
+    private void reloadUser(Long userId) {
+        Queue<Consumer<ConcurrentMap<Long, UserTermIndex>>> changes = new ConcurrentLinkedQueue<>();
+        reloading.put(userId, changes);
+        ConcurrentMap<Long, UserTermIndex> staged = new ConcurrentHashMap<>();
+        try {
+            UserTermIndex fresh = new UserTermIndex();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<TodoResponseDto> rows = todoRepository.streamByUserId(userId)) {
+                    rows.forEach(fresh::put);
+                }
+            });
+            staged.put(userId, fresh);
+        } catch (RuntimeException e) {
+            reloading.remove(userId);
+            log.warn("Todo search reload failed. userId={}, cause={}", userId, e.getMessage());
+            return;
+        }
+        swapLock.writeLock().lock();
+        try {
+            reloading.remove(userId);
+            changes.forEach(change -> change.accept(staged));
+            UserTermIndex reloaded = staged.get(userId);
+            Consumer<ConcurrentMap<Long, UserTermIndex>> install = target -> {
+                if (reloaded.size() == 0) {
+                    target.remove(userId);
+                } else {
+                    target.put(userId, reloaded);
+                }
+            };
+            install.accept(users);
+            Queue<Consumer<ConcurrentMap<Long, UserTermIndex>>> pending = replay;
+            if (pending != null) pending.add(install);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static UserTermIndex index(ConcurrentMap<Long, UserTermIndex> target, Long userId) {
+        return target.computeIfAbsent(userId, id -> new UserTermIndex());
+    }
+
+    private static String likePattern(String query) {
+        String escaped = query.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    @FunctionalInterface
+    private interface Builder {
+        boolean build(ConcurrentMap<Long, UserTermIndex> target) throws IOException;
+    }
+}
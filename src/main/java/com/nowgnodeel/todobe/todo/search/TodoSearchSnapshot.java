@@ -0,0 +1,164 @@
+package com.nowgnodeel.todobe.todo.search;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+final class TodoSearchSnapshot {
+
+    interface Sink {
+        void accept(Long userId, TodoResponseDto todo);
+    }
+
+    private static final int MAGIC = 0x54445358;
+    private static final int VERSION = 1;
+    private static final String MANIFEST = "manifest.properties";
+    private static final IsDone[] STATES = IsDone.values();
+
+    private TodoSearchSnapshot() {
+    }
+
+    static int write(Path dir, LocalDateTime watermark, Map<Long, UserTermIndex> users, int segmentDocs) throws IOException {
+        Files.createDirectories(dir);
+        long generation = System.currentTimeMillis();
+        List<Long> userIds = new ArrayList<>();
+        List<TodoResponseDto> todos = new ArrayList<>(segmentDocs);
+        int segments = 0;
+        int docs = 0;
+        for (Map.Entry<Long, UserTermIndex> user : users.entrySet()) {
+            for (TodoResponseDto todo : user.getValue().todos()) {
+                userIds.add(user.getKey());
+                todos.add(todo);
+                if (todos.size() == segmentDocs) {
+                    writeSegment(segmentPath(dir, generation, segments++), userIds, todos);
+                    docs += todos.size();
+                    userIds.clear();
+                    todos.clear();
+                }
+            }
+        }
+        if (!todos.isEmpty()) {
+            writeSegment(segmentPath(dir, generation, segments++), userIds, todos);
+            docs += todos.size();
+        }
+
+        Properties manifest = new Properties();
+        manifest.setProperty("generation", Long.toString(generation));
+        manifest.setProperty("watermark", watermark.toString());
+        manifest.setProperty("segments", Integer.toString(segments));
+        manifest.setProperty("docs", Integer.toString(docs));
+        Path temp = dir.resolve(MANIFEST + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            manifest.store(Channels.newOutputStream(channel), null);
+            channel.force(true);
+        }
+        Files.move(temp, dir.resolve(MANIFEST), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(dir);
+        deleteOtherGenerations(dir, generation);
+        return docs;
+    }
+
+    static LocalDateTime read(Path dir, Sink sink) throws IOException {
+        Path manifestPath = dir.resolve(MANIFEST);
+        if (!Files.exists(manifestPath)) return null;
+        Properties manifest = new Properties();
+        try (InputStream in = Files.newInputStream(manifestPath)) {
+            manifest.load(in);
+        }
+        long generation = Long.parseLong(manifest.getProperty("generation"));
+        int segments = Integer.parseInt(manifest.getProperty("segments"));
+        for (int i = 0; i < segments; i++) {
+            readSegment(segmentPath(dir, generation, i), sink);
+        }
+        return LocalDateTime.parse(manifest.getProperty("watermark"));
+    }
+
+    private static void writeSegment(Path path, List<Long> userIds, List<TodoResponseDto> todos) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(todos.size());
+            for (int i = 0; i < todos.size(); i++) {
+                TodoResponseDto todo = todos.get(i);
+                out.writeLong(userIds.get(i));
+                out.writeLong(todo.id());
+                writeTime(out, todo.start());
+                writeTime(out, todo.end());
+                out.writeByte(todo.isDone().ordinal());
+                byte[] title = todo.title().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(title.length);
+                out.write(title);
+            }
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    private static void readSegment(Path path, Sink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Unsupported search segment: " + path);
+            }
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                Long userId = buffer.getLong();
+                Long id = buffer.getLong();
+                LocalDateTime start = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+                LocalDateTime end = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+                IsDone isDone = STATES[buffer.get()];
+                byte[] title = new byte[buffer.getInt()];
+                buffer.get(title);
+                sink.accept(userId, new TodoResponseDto(id, new String(title, StandardCharsets.UTF_8), start, end, isDone));
+            }
+        }
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+
+    private static Path segmentPath(Path dir, long generation, int index) {
+        return dir.resolve("segment-" + generation + "-" + index + ".seg");
+    }
+
+    private static void forceDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not every platform can sync a directory; the rename itself is still atomic.
+        }
+    }
+
+    private static void deleteOtherGenerations(Path dir, long generation) throws IOException {
+        String current = "segment-" + generation + "-";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "segment-*.seg")) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().startsWith(current)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
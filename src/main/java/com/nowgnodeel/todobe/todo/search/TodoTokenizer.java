@@ -0,0 +1,80 @@
+package com.nowgnodeel.todobe.todo.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+final class TodoTokenizer {
+
+    record Clause(String term, boolean prefix) {
+    }
+
+    private static final int OTHER = 0;
+    private static final int HANGUL = 1;
+    private static final int WORD = 2;
+
+    private TodoTokenizer() {
+    }
+
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> terms(String title) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String run : runs(normalize(title))) {
+            if (isHangul(run.charAt(0))) {
+                if (run.length() == 1) {
+                    terms.add(run);
+                }
+                for (int i = 0; i + 1 < run.length(); i++) {
+                    terms.add(run.substring(i, i + 2));
+                }
+            } else {
+                terms.add(run);
+            }
+        }
+        return terms;
+    }
+
+    static List<Clause> clauses(String query) {
+        Set<Clause> clauses = new LinkedHashSet<>();
+        for (String run : runs(normalize(query))) {
+            if (isHangul(run.charAt(0)) && run.length() > 1) {
+                for (int i = 0; i + 1 < run.length(); i++) {
+                    clauses.add(new Clause(run.substring(i, i + 2), false));
+                }
+            } else {
+                clauses.add(new Clause(run, true));
+            }
+        }
+        return List.copyOf(clauses);
+    }
+
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        int start = -1;
+        int kind = OTHER;
+        for (int i = 0; i <= text.length(); i++) {
+            int next = i < text.length() ? classify(text.charAt(i)) : OTHER;
+            if (next != kind) {
+                if (kind != OTHER) runs.add(text.substring(start, i));
+                start = i;
+                kind = next;
+            }
+        }
+        return runs;
+    }
+
+    private static int classify(char c) {
+        if (isHangul(c)) return HANGUL;
+        return Character.isLetterOrDigit(c) ? WORD : OTHER;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
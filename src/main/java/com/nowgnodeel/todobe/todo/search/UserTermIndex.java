@@ -0,0 +1,163 @@
+package com.nowgnodeel.todobe.todo.search;
+
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class UserTermIndex {
+
+    private static final double PREFIX_WEIGHT = 0.7;
+
+    private record Doc(TodoResponseDto todo, Set<String> terms) {
+    }
+
+    private record Hit(TodoResponseDto todo, double score) {
+    }
+
+    private record ClauseMatch(TodoTokenizer.Clause clause, List<Set<Long>> postings, int frequency) {
+    }
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score)
+            .thenComparing(hit -> hit.todo().id());
+
+    private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    void put(TodoResponseDto todo) {
+        writeLock.lock();
+        try {
+            Doc previous = docs.get(todo.id());
+            if (previous != null && previous.todo().title().equals(todo.title())) {
+                docs.put(todo.id(), new Doc(todo, previous.terms()));
+                return;
+            }
+            if (previous != null) {
+                unlink(todo.id(), previous.terms());
+            }
+            Set<String> terms = TodoTokenizer.terms(todo.title());
+            docs.put(todo.id(), new Doc(todo, terms));
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(todo.id());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void remove(Long todoId) {
+        writeLock.lock();
+        try {
+            Doc previous = docs.remove(todoId);
+            if (previous != null) {
+                unlink(todoId, previous.terms());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    int size() {
+        return docs.size();
+    }
+
+    Collection<TodoResponseDto> todos() {
+        return docs.values().stream().map(Doc::todo).toList();
+    }
+
+    /**
+     * Returns {@code null} when a prefix clause matches more than {@code maxExpansions} terms, since
+     * ranking only the first of them would silently drop hits.
+     */
+    List<TodoResponseDto> search(List<TodoTokenizer.Clause> clauses, String normalizedQuery, int limit, int maxExpansions) {
+        if (clauses.isEmpty()) return List.of();
+        List<ClauseMatch> matches = new ArrayList<>(clauses.size());
+        for (TodoTokenizer.Clause clause : clauses) {
+            ClauseMatch match = match(clause, maxExpansions);
+            if (match == null) return null;
+            if (match.frequency() == 0) return List.of();
+            matches.add(match);
+        }
+        ClauseMatch driver = matches.stream().min(Comparator.comparingInt(ClauseMatch::frequency)).orElseThrow();
+        int total = Math.max(docs.size(), 1);
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING);
+        Set<Long> seen = new HashSet<>();
+        for (Set<Long> ids : driver.postings()) {
+            for (Long id : ids) {
+                if (!seen.add(id)) continue;
+                Doc doc = docs.get(id);
+                if (doc == null) continue;
+                double score = score(doc, matches, total, normalizedQuery);
+                if (score <= 0) continue;
+                top.offer(new Hit(doc.todo(), score));
+                if (top.size() > limit) top.poll();
+            }
+        }
+        List<TodoResponseDto> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().todo());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    private ClauseMatch match(TodoTokenizer.Clause clause, int maxExpansions) {
+        if (!clause.prefix()) {
+            Set<Long> ids = postings.get(clause.term());
+            return ids == null ? new ClauseMatch(clause, List.of(), 0) : new ClauseMatch(clause, List.of(ids), ids.size());
+        }
+        List<Set<Long>> expanded = new ArrayList<>();
+        int frequency = 0;
+        for (Map.Entry<String, Set<Long>> entry : postings.tailMap(clause.term(), true).entrySet()) {
+            if (!entry.getKey().startsWith(clause.term())) break;
+            if (expanded.size() >= maxExpansions) return null;
+            expanded.add(entry.getValue());
+            frequency += entry.getValue().size();
+        }
+        return new ClauseMatch(clause, expanded, frequency);
+    }
+
+    private static double score(Doc doc, List<ClauseMatch> matches, int total, String normalizedQuery) {
+        double score = 0;
+        for (ClauseMatch match : matches) {
+            double weight = weight(doc.terms(), match.clause());
+            if (weight == 0) return 0;
+            score += weight * Math.log(1 + (double) total / Math.min(match.frequency(), total));
+        }
+        score += 1.0 / (1 + doc.terms().size());
+        if (TodoTokenizer.normalize(doc.todo().title()).startsWith(normalizedQuery)) {
+            score += 1.0;
+        }
+        return score;
+    }
+
+    private static double weight(Set<String> terms, TodoTokenizer.Clause clause) {
+        if (terms.contains(clause.term())) return 1.0;
+        if (!clause.prefix()) return 0;
+        for (String term : terms) {
+            if (term.startsWith(clause.term())) return PREFIX_WEIGHT;
+        }
+        return 0;
+    }
+
+    private void unlink(Long todoId, Set<String> terms) {
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, ids) -> {
+                ids.remove(todoId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.nowgnodeel.todobe.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.nowgnodeel.todobe.todo.buffer.TodoToggleBuffer;
+import com.nowgnodeel.todobe.todo.common.ExportFormat;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TodoExportService {
+
+    private static final String CSV_HEADER = "id,title,start,end,isDone\n";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+    private final TodoToggleBuffer todoToggleBuffer;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TodoExportService(TodoRepository todoRepository, ObjectMapper objectMapper, TodoToggleBuffer todoToggleBuffer,
+                             PlatformTransactionManager transactionManager) {
+        this.todoRepository = todoRepository;
+        this.objectMapper = objectMapper;
+        this.todoToggleBuffer = todoToggleBuffer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public StreamingResponseBody export(Long userId, ExportFormat format) {
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try (Stream<TodoResponseDto> rows = todoRepository.streamByUserId(userId).map(todoToggleBuffer::overlay)) {
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, rows.iterator());
+                } else {
+                    writeNdjson(writer, rows.iterator());
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeNdjson(Writer writer, Iterator<TodoResponseDto> rows) throws IOException {
+        SequenceWriter sequenceWriter = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(writer);
+        if (!rows.hasNext()) return;
+        while (rows.hasNext()) {
+            sequenceWriter.write(rows.next());
+        }
+        sequenceWriter.flush();
+        writer.write('\n');
+    }
+
+    private void writeCsv(Writer writer, Iterator<TodoResponseDto> rows) throws IOException {
+        writer.write(CSV_HEADER);
+        while (rows.hasNext()) {
+            TodoResponseDto row = rows.next();
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writeCsvField(writer, row.title());
+            writer.write(',');
+            writer.write(row.start().toString());
+            writer.write(',');
+            writer.write(row.end().toString());
+            writer.write(',');
+            writer.write(row.isDone().name());
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,61 @@
+package com.nowgnodeel.todobe.todo.service;
+
+import com.nowgnodeel.todobe.todo.buffer.TodoToggleBuffer;
+import com.nowgnodeel.todobe.todo.event.TodoBulkChangedEvent;
+import com.nowgnodeel.todobe.todo.repository.TodoRepository;
+import com.nowgnodeel.todobe.todo.repository.TodoTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoPurgeService {
+
+    private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoToggleBuffer todoToggleBuffer;
+
+    @Value("${todo.purge.chunkSize:1000}")
+    private int chunkSize;
+
+    public int purgeUser(Long userId) {
+        long startedAt = System.currentTimeMillis();
+        todoToggleBuffer.drainUser(userId);
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> todoRepository.deleteChunkByUserId(userId, chunkSize));
+            if (deleted == null || deleted == 0) break;
+            total += deleted;
+        }
+        int purged = total;
+        transactionTemplate.executeWithoutResult(status -> {
+            todoTombstoneRepository.deleteByUserId(userId);
+            eventPublisher.publishEvent(new TodoBulkChangedEvent(userId, purged));
+        });
+        log.info("Todos purged. userId={}, deleted={}, elapsedMs={}", userId, purged, System.currentTimeMillis() - startedAt);
+        return purged;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int purgeRemaining(Long userId) {
+        int total = 0;
+        int deleted;
+        while ((deleted = todoRepository.deleteChunkByUserId(userId, chunkSize)) > 0) {
+            total += deleted;
+        }
+        todoTombstoneRepository.deleteByUserId(userId);
+        if (total > 0) {
+            eventPublisher.publishEvent(new TodoBulkChangedEvent(userId, total));
+        }
+        return total;
+    }
+}
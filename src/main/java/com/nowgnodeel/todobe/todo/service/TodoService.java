@@ -1,9 +1,289 @@
 package com.nowgnodeel.todobe.todo.service;
 
+import com.nowgnodeel.todobe.auth.repository.UserRepository;
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import com.nowgnodeel.todobe.todo.buffer.TodoToggleBuffer;
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.common.TodoCursor;
+import com.nowgnodeel.todobe.todo.dto.TodoBatchCreateResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoBatchItemResultDto;
+import com.nowgnodeel.todobe.todo.dto.TodoBulkStatusRequestDto;
+import com.nowgnodeel.todobe.todo.dto.TodoBulkStatusResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoCreateRequestDto;
+import com.nowgnodeel.todobe.todo.dto.TodoPageResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoUpdateRequestDto;
+import com.nowgnodeel.todobe.todo.entity.Todo;
+import com.nowgnodeel.todobe.todo.event.TodoBulkChangedEvent;
+import com.nowgnodeel.todobe.todo.event.TodoChangedEvent;
+import com.nowgnodeel.todobe.todo.index.TodoIntervalIndex;
+import com.nowgnodeel.todobe.todo.repository.TodoBatchRepository;
+import com.nowgnodeel.todobe.todo.repository.TodoRepository;
+import com.nowgnodeel.todobe.todo.search.TodoSearchIndex;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class TodoService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final TodoRepository todoRepository;
+    private final TodoBatchRepository todoBatchRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoIntervalIndex todoIntervalIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoToggleBuffer todoToggleBuffer;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoStatService todoStatService;
+
+    @Value("${todo.batch.maxSize:1000}")
+    private int maxBatchSize;
+
+    @Value("${todo.batch.chunkSize:200}")
+    private int batchChunkSize;
+
+    public TodoPageResponseDto getTodos(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        List<TodoResponseDto> rows;
+        if (StringUtils.hasText(cursor)) {
+            TodoCursor after = TodoCursor.decode(cursor);
+            rows = todoRepository.findPageAfter(userId, after.start(), after.id(), limit);
+        } else {
+            rows = todoRepository.findFirstPage(userId, limit);
+        }
+        if (rows.size() <= pageSize) {
+            return new TodoPageResponseDto(todoToggleBuffer.overlay(rows), null);
+        }
+        List<TodoResponseDto> page = rows.subList(0, pageSize);
+        TodoResponseDto last = page.get(pageSize - 1);
+        return new TodoPageResponseDto(todoToggleBuffer.overlay(List.copyOf(page)), new TodoCursor(last.start(), last.id()).encode());
+    }
+
+    public List<TodoResponseDto> getTodosBetween(Long userId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        return todoToggleBuffer.overlay(todoIntervalIndex.findOverlapping(userId, from, to));
+    }
+
+    public TodoResponseDto getTodo(Long userId, Long todoId) {
+        return todoRepository.findDtoByIdAndUserId(todoId, userId)
+                .map(todoToggleBuffer::overlay)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "할 일을 찾을 수 없습니다."));
+    }
+
+    public List<TodoResponseDto> search(Long userId, String query, int size) {
+        if (!StringUtils.hasText(query)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요.");
+        }
+        String trimmed = query.trim();
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "검색어는 " + MAX_QUERY_LENGTH + "자까지 입력할 수 있습니다.");
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        return todoToggleBuffer.overlay(todoSearchIndex.search(userId, trimmed, limit));
+    }
+
+    @Transactional
+    public TodoResponseDto create(Long userId, TodoCreateRequestDto requestDto) {
+        validateCreateRequest(requestDto);
+        Todo todo = Todo.builder()
+                .title(requestDto.title())
+                .start(requestDto.start())
+                .end(requestDto.end())
+                .isDone(requestDto.isDone() != null ? requestDto.isDone() : IsDone.Uncompleted)
+                .user(userRepository.getReferenceById(userId))
+                .build();
+        todoRepository.save(todo);
+        TodoResponseDto created = TodoResponseDto.from(todo);
+        eventPublisher.publishEvent(TodoChangedEvent.created(userId, created));
+        return created;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoBatchCreateResponseDto createAll(Long userId, List<TodoCreateRequestDto> requestDtos) {
+        if (requestDtos == null || requestDtos.isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "등록할 할 일이 없습니다.");
+        }
+        if (requestDtos.size() > maxBatchSize) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "한 번에 " + maxBatchSize + "개까지 등록할 수 있습니다.");
+        }
+        TodoBatchItemResultDto[] results = new TodoBatchItemResultDto[requestDtos.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < requestDtos.size(); i++) {
+            try {
+                validateCreateRequest(requestDtos.get(i));
+                validIndexes.add(i);
+            } catch (ApiException e) {
+                results[i] = TodoBatchItemResultDto.failed(i, e.getMessage());
+            }
+        }
+        for (int from = 0; from < validIndexes.size(); from += batchChunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + batchChunkSize, validIndexes.size()));
+            insertChunk(userId, requestDtos, chunk, results);
+        }
+        int created = (int) Arrays.stream(results).filter(result -> result.error() == null).count();
+        return new TodoBatchCreateResponseDto(requestDtos.size(), created, requestDtos.size() - created, Arrays.asList(results));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoResponseDto update(Long userId, Long todoId, TodoUpdateRequestDto requestDto) {
+        return todoToggleBuffer.writeThrough(userId, () -> {
+            todoToggleBuffer.drainTodo(todoId);
+            return transactionTemplate.execute(status -> {
+                Todo todo = findTodo(userId, todoId);
+                TodoResponseDto before = TodoResponseDto.from(todo);
+                todo.update(requestDto);
+                validatePeriod(todo.getStart(), todo.getEnd());
+                TodoResponseDto after = TodoResponseDto.from(todo);
+                eventPublisher.publishEvent(TodoChangedEvent.updated(userId, before, after));
+                return after;
+            });
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoResponseDto toggle(Long userId, Long todoId) {
+        if (todoToggleBuffer.isEnabled()) {
+            return todoToggleBuffer.toggle(userId, todoId);
+        }
+        return transactionTemplate.execute(status -> {
+            Todo todo = findTodo(userId, todoId);
+            TodoResponseDto before = TodoResponseDto.from(todo);
+            todo.toggle();
+            TodoResponseDto after = TodoResponseDto.from(todo);
+            eventPublisher.publishEvent(TodoChangedEvent.updated(userId, before, after));
+            return after;
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoBulkStatusResponseDto updateStatus(Long userId, TodoBulkStatusRequestDto requestDto) {
+        if (requestDto.isDone() == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "변경할 상태를 입력해주세요.");
+        }
+        boolean byIds = requestDto.ids() != null && !requestDto.ids().isEmpty();
+        boolean byRange = requestDto.from() != null || requestDto.to() != null;
+        if (byIds == byRange) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "id 목록 또는 기간 중 하나만 입력해주세요.");
+        }
+        if (byIds && requestDto.ids().size() > maxBatchSize) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "한 번에 " + maxBatchSize + "개까지 변경할 수 있습니다.");
+        }
+        if (byRange && (requestDto.from() == null || requestDto.to() == null || !requestDto.from().isBefore(requestDto.to()))) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        Integer updated = todoToggleBuffer.writeThrough(userId, () -> {
+            todoToggleBuffer.drainUser(userId);
+            return transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int changed;
+                if (byIds) {
+                    Set<Long> ids = new HashSet<>(requestDto.ids());
+                    todoStatService.applyStatusChangeByIds(userId, ids, requestDto.isDone());
+                    changed = todoRepository.updateStatusByIds(userId, ids, requestDto.isDone(), now);
+                } else {
+                    todoStatService.applyStatusChangeInRange(userId, requestDto.from(), requestDto.to(), requestDto.isDone());
+                    changed = todoRepository.updateStatusInRange(userId, requestDto.from(), requestDto.to(), requestDto.isDone(), now);
+                }
+                if (changed > 0) {
+                    eventPublisher.publishEvent(new TodoBulkChangedEvent(userId, changed, true));
+                }
+                return changed;
+            });
+        });
+        return new TodoBulkStatusResponseDto(requestDto.isDone(), updated);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void delete(Long userId, Long todoId) {
+        todoToggleBuffer.writeThrough(userId, () -> {
+            todoToggleBuffer.drainTodo(todoId);
+            transactionTemplate.executeWithoutResult(status -> {
+                TodoResponseDto before = getTodo(userId, todoId);
+                if (todoRepository.deleteByIdAndUserId(todoId, userId) == 0) {
+                    throw new ApiException(HttpStatus.NOT_FOUND, "할 일을 찾을 수 없습니다.");
+                }
+                eventPublisher.publishEvent(TodoChangedEvent.deleted(userId, before));
+            });
+            return null;
+        });
+    }
+
+    private void insertChunk(Long userId, List<TodoCreateRequestDto> requestDtos, List<Integer> chunk, TodoBatchItemResultDto[] results) {
+        List<TodoCreateRequestDto> rows = chunk.stream().map(requestDtos::get).toList();
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insertRows(userId, rows));
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = TodoBatchItemResultDto.created(chunk.get(i), ids.get(i));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Batch insert failed, retrying row by row. userId={}, rows={}, cause={}", userId, rows.size(), e.getMessage());
+            for (Integer index : chunk) {
+                try {
+                    List<Long> ids = transactionTemplate.execute(status -> insertRows(userId, List.of(requestDtos.get(index))));
+                    results[index] = TodoBatchItemResultDto.created(index, ids.get(0));
+                } catch (DataAccessException rowFailure) {
+                    results[index] = TodoBatchItemResultDto.failed(index, "저장에 실패했습니다.");
+                }
+            }
+        }
+    }
+
+    private List<Long> insertRows(Long userId, List<TodoCreateRequestDto> rows) {
+        List<Long> ids = todoBatchRepository.insertAll(userId, rows, LocalDateTime.now());
+        for (int i = 0; i < rows.size(); i++) {
+            TodoCreateRequestDto row = rows.get(i);
+            IsDone isDone = row.isDone() != null ? row.isDone() : IsDone.Uncompleted;
+            eventPublisher.publishEvent(TodoChangedEvent.created(userId,
+                    new TodoResponseDto(ids.get(i), row.title(), row.start(), row.end(), isDone)));
+        }
+        return ids;
+    }
+
+    private void validateCreateRequest(TodoCreateRequestDto requestDto) {
+        if (requestDto == null || !StringUtils.hasText(requestDto.title())) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "제목을 입력해주세요.");
+        }
+        validatePeriod(requestDto.start(), requestDto.end());
+    }
+
+    private Todo findTodo(Long userId, Long todoId) {
+        return todoRepository.findByIdAndUserId(todoId, userId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "할 일을 찾을 수 없습니다."));
+    }
+
+    private void validatePeriod(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "시작 시간과 종료 시간을 입력해주세요.");
+        }
+        if (start.isAfter(end)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "시작 시간은 종료 시간보다 늦을 수 없습니다.");
+        }
+    }
 }
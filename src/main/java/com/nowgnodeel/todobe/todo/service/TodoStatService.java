@@ -0,0 +1,132 @@
+package com.nowgnodeel.todobe.todo.service;
+
+import com.nowgnodeel.todobe.auth.repository.UserRepository;
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.dto.TodoDailyStatDto;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoStatResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoStatTotalDto;
+import com.nowgnodeel.todobe.todo.event.TodoBulkChangedEvent;
+import com.nowgnodeel.todobe.todo.event.TodoChangedEvent;
+import com.nowgnodeel.todobe.todo.repository.TodoStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoStatService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final TodoStatRepository todoStatRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${todo.stat.rebuildChunkSize:500}")
+    private int rebuildChunkSize;
+
+    public TodoStatResponseDto getStats(Long userId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end) || start.plusDays(MAX_RANGE_DAYS).isBefore(end)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+        }
+        TodoStatTotalDto total = todoStatRepository.findTotal(userId);
+        List<TodoDailyStatDto> days = todoStatRepository.findDaily(userId, start, end);
+        return new TodoStatResponseDto(
+                total.completed() != null ? total.completed() : 0L,
+                total.uncompleted() != null ? total.uncompleted() : 0L,
+                days);
+    }
+
+    @EventListener
+    @Transactional
+    public void onTodoChanged(TodoChangedEvent event) {
+        TodoResponseDto before = event.before();
+        TodoResponseDto after = event.after();
+        if (before != null && after != null
+                && before.isDone() == after.isDone()
+                && Objects.equals(before.start().toLocalDate(), after.start().toLocalDate())) {
+            return;
+        }
+        if (before != null) {
+            addCount(event.userId(), before, -1);
+        }
+        if (after != null) {
+            addCount(event.userId(), after, 1);
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onTodoBulkChanged(TodoBulkChangedEvent event) {
+        if (!event.statsApplied()) {
+            rebuild(event.userId());
+        }
+    }
+
+    @Transactional
+    public void applyStatusChangeByIds(Long userId, Collection<Long> ids, IsDone isDone) {
+        todoStatRepository.addStatusDeltasByIds(userId, ids, isDone.name(), completedDelta(isDone));
+    }
+
+    @Transactional
+    public void applyStatusChangeInRange(Long userId, LocalDateTime from, LocalDateTime to, IsDone isDone) {
+        todoStatRepository.addStatusDeltasInRange(userId, from, to, isDone.name(), completedDelta(isDone));
+    }
+
+    @Transactional
+    public void rebuild(Long userId) {
+        todoStatRepository.deleteByUserId(userId);
+        todoStatRepository.insertRecomputed(userId);
+    }
+
+    @Scheduled(cron = "${todo.stat.rebuildCron:-}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        long rebuilt = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(afterId, Limit.of(rebuildChunkSize));
+            if (userIds.isEmpty()) break;
+            for (Long userId : userIds) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    todoStatRepository.deleteByUserId(userId);
+                    todoStatRepository.insertRecomputed(userId);
+                });
+            }
+            rebuilt += userIds.size();
+            afterId = userIds.get(userIds.size() - 1);
+        }
+        log.info("Todo statistics rebuilt. users={}, elapsedMs={}", rebuilt, System.currentTimeMillis() - startedAt);
+    }
+
+    private static int completedDelta(IsDone isDone) {
+        return isDone == IsDone.Completed ? 1 : -1;
+    }
+
+    private void addCount(Long userId, TodoResponseDto todo, int delta) {
+        long completed = todo.isDone() == IsDone.Completed ? delta : 0;
+        long uncompleted = todo.isDone() == IsDone.Uncompleted ? delta : 0;
+        todoStatRepository.addCounts(userId, todo.start().toLocalDate(), completed, uncompleted);
+    }
+}
@@ -0,0 +1,113 @@
+package com.nowgnodeel.todobe.todo.service;
+
+import com.nowgnodeel.todobe.todo.buffer.TodoToggleBuffer;
+import com.nowgnodeel.todobe.todo.common.TodoSyncCursor;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoSyncResponseDto;
+import com.nowgnodeel.todobe.todo.dto.TodoSyncRowDto;
+import com.nowgnodeel.todobe.todo.entity.TodoTombstone;
+import com.nowgnodeel.todobe.todo.event.TodoChangedEvent;
+import com.nowgnodeel.todobe.todo.repository.TodoRepository;
+import com.nowgnodeel.todobe.todo.repository.TodoTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoSyncService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoToggleBuffer todoToggleBuffer;
+
+    @Value("${todo.sync.settleMillis:5000}")
+    private long settleMillis;
+
+    @Value("${todo.sync.tombstoneRetentionDays:30}")
+    private int tombstoneRetentionDays;
+
+    @Value("${todo.sync.purgeChunkSize:1000}")
+    private int purgeChunkSize;
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoSyncResponseDto getChanges(Long userId, String cursor, int size) {
+        todoToggleBuffer.drainUser(userId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        TodoSyncCursor after = StringUtils.hasText(cursor) ? TodoSyncCursor.decode(cursor) : TodoSyncCursor.initial();
+        if (StringUtils.hasText(cursor) && after.at().isBefore(now.minusDays(tombstoneRetentionDays))) {
+            return new TodoSyncResponseDto(List.of(), List.of(), null, false, true);
+        }
+
+        LocalDateTime until = now.minus(settleMillis, ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MICROS);
+        Limit limit = Limit.of(pageSize + 1);
+        List<TodoSyncRowDto> rows = todoRepository.findChangedSince(userId, after.at(), after.todoAfterId(), until, limit);
+        List<TodoTombstone> tombstones = todoTombstoneRepository.findChangedSince(userId, after.at(), after.tombstoneAfterId(), until, limit);
+
+        List<TodoSyncCursor> merged = TodoSyncCursor.merge(
+                rows.stream().map(row -> new TodoSyncCursor(row.modifiedAt(), false, row.id())).toList(),
+                tombstones.stream().map(t -> new TodoSyncCursor(t.getDeletedAt(), true, t.getTodoId())).toList(),
+                pageSize);
+
+        List<TodoResponseDto> upserts = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        int i = 0;
+        for (TodoSyncCursor key : merged) {
+            if (key.deleted()) {
+                deleted.add(key.id());
+            } else {
+                upserts.add(rows.get(i++).toResponse());
+            }
+        }
+
+        boolean hasMore = merged.size() < rows.size() + tombstones.size();
+        TodoSyncCursor next;
+        if (hasMore) {
+            next = merged.get(merged.size() - 1);
+        } else {
+            TodoSyncCursor settled = new TodoSyncCursor(until, false, 0L);
+            next = settled.compareTo(after) > 0 ? settled : after;
+        }
+        return new TodoSyncResponseDto(upserts, deleted, next.encode(), hasMore, false);
+    }
+
+    @EventListener
+    @Transactional
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (event.after() == null) {
+            todoTombstoneRepository.insert(event.todoId(), event.userId(), LocalDateTime.now());
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(cron = "${todo.sync.tombstonePurgeCron:0 30 3 * * *}")
+    public void purgeTombstones() {
+        LocalDateTime before = LocalDateTime.now().minusDays(tombstoneRetentionDays);
+        int total = 0;
+        while (true) {
+            Integer purged = transactionTemplate.execute(status -> todoTombstoneRepository.deleteOlderThan(before, purgeChunkSize));
+            if (purged == null || purged == 0) break;
+            total += purged;
+        }
+        log.info("Todo tombstones purged. before={}, deleted={}", before, total);
+    }
+}
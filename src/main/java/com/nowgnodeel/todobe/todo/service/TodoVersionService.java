@@ -0,0 +1,75 @@
+package com.nowgnodeel.todobe.todo.service;
+
+import com.nowgnodeel.todobe.auth.repository.UserRepository;
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import com.nowgnodeel.todobe.todo.buffer.TodoToggleBuffer;
+import com.nowgnodeel.todobe.todo.event.TodoBulkChangedEvent;
+import com.nowgnodeel.todobe.todo.event.TodoChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class TodoVersionService {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoToggleBuffer todoToggleBuffer;
+
+    public long currentVersion(Long userId) {
+        return userRepository.findTodoVersionById(userId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+    }
+
+    public String etag(Long userId) {
+        long pending = todoToggleBuffer.pendingStamp(userId);
+        String version = userId + "." + currentVersion(userId);
+        return "\"" + (pending == 0 ? version : version + "." + pending) + "\"";
+    }
+
+    @EventListener
+    public void onTodoChanged(TodoChangedEvent event) {
+        bump(event.userId());
+    }
+
+    @EventListener
+    public void onTodoBulkChanged(TodoBulkChangedEvent event) {
+        bump(event.userId());
+    }
+
+    private void bump(Long userId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionTemplate.executeWithoutResult(status -> userRepository.incrementTodoVersion(Set.of(userId)));
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof VersionBump pending) {
+                pending.userIds.add(userId);
+                return;
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new VersionBump(userId));
+    }
+
+    private class VersionBump implements TransactionSynchronization {
+
+        private final Set<Long> userIds = new HashSet<>();
+
+        private VersionBump(Long userId) {
+            userIds.add(userId);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            userRepository.incrementTodoVersion(userIds);
+        }
+    }
+}
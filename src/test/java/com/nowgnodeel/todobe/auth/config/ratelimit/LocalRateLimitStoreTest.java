@@ -0,0 +1,71 @@
+package com.nowgnodeel.todobe.auth.config.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimitStoreTest {
+
+    private final LocalRateLimitStore store = new LocalRateLimitStore(1000, 60_000);
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWait() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryConsume("ip:a", 3, 1.0)).isEqualTo(0L);
+        }
+
+        long waitMillis = store.tryConsume("ip:a", 3, 1.0);
+        assertThat(waitMillis).isBetween(1L, 1001L);
+    }
+
+    @Test
+    void keysAreIndependent() {
+        assertThat(store.tryConsume("ip:a", 1, 0.1)).isEqualTo(0L);
+        assertThat(store.tryConsume("ip:a", 1, 0.1)).isPositive();
+
+        assertThat(store.tryConsume("ip:b", 1, 0.1)).isEqualTo(0L);
+    }
+
+    @Test
+    void refillsAtConfiguredRate() throws InterruptedException {
+        assertThat(store.tryConsume("user:a", 1, 20.0)).isEqualTo(0L);
+        assertThat(store.tryConsume("user:a", 1, 20.0)).isPositive();
+
+        Thread.sleep(60);
+
+        assertThat(store.tryConsume("user:a", 1, 20.0)).isEqualTo(0L);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedCapacity() throws InterruptedException {
+        int threads = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        if (store.tryConsume("ip:shared", 10, 0.001) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,119 @@
+package com.nowgnodeel.todobe.auth.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenRevocationStoreTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir
+    Path dir;
+
+    private RefreshTokenRevocationStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) store.close();
+    }
+
+    private RefreshTokenRevocationStore open() throws IOException {
+        RefreshTokenRevocationStore opened = new RefreshTokenRevocationStore();
+        ReflectionTestUtils.setField(opened, "file", dir.resolve("families.log").toString());
+        ReflectionTestUtils.setField(opened, "compactThreshold", 10_000);
+        opened.init();
+        return opened;
+    }
+
+    private RefreshTokenRevocationStore restart() throws IOException {
+        store.close();
+        store = open();
+        return store;
+    }
+
+    private static long inAnHour() {
+        return System.currentTimeMillis() + HOUR;
+    }
+
+    @Test
+    void rotatesFromNewestJti() throws IOException {
+        store = open();
+        store.register("f1", "j1", inAnHour());
+
+        assertThat(store.rotate("f1", "j1", "j2", inAnHour())).isTrue();
+        assertThat(store.rotate("f1", "j2", "j3", inAnHour())).isTrue();
+        assertThat(store.isFamilyRevoked("f1")).isFalse();
+    }
+
+    @Test
+    void reuseOfOldJtiRevokesFamily() throws IOException {
+        store = open();
+        store.register("f1", "j1", inAnHour());
+        store.rotate("f1", "j1", "j2", inAnHour());
+
+        assertThat(store.rotate("f1", "j1", "attacker", inAnHour())).isFalse();
+        assertThat(store.isFamilyRevoked("f1")).isTrue();
+        assertThat(store.rotate("f1", "j2", "j3", inAnHour())).isFalse();
+    }
+
+    @Test
+    void reuseDoesNotAffectOtherFamilies() throws IOException {
+        store = open();
+        store.register("f1", "a1", inAnHour());
+        store.register("f2", "b1", inAnHour());
+
+        store.rotate("f1", "stale", "a2", inAnHour());
+
+        assertThat(store.isFamilyRevoked("f1")).isTrue();
+        assertThat(store.rotate("f2", "b1", "b2", inAnHour())).isTrue();
+    }
+
+    @Test
+    void revocationAndRotationSurviveRestart() throws IOException {
+        store = open();
+        store.register("f1", "j1", inAnHour());
+        store.rotate("f1", "j1", "j2", inAnHour());
+        store.register("f2", "k1", inAnHour());
+        store.rotate("f2", "stale", "k2", inAnHour());
+        store.flush();
+
+        restart();
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.isFamilyRevoked("f2")).isTrue();
+        assertThat(store.rotate("f1", "j1", "x", inAnHour())).isFalse();
+    }
+
+    @Test
+    void closeWritesPendingEntries() throws IOException {
+        store = open();
+        store.register("f1", "j1", inAnHour());
+        store.rotate("f1", "j1", "j2", inAnHour());
+
+        restart();
+
+        assertThat(store.rotate("f1", "j2", "j3", inAnHour())).isTrue();
+    }
+
+    @Test
+    void expiredFamiliesAreDroppedOnPurgeAndReload() throws IOException {
+        store = open();
+        store.register("old", "j1", System.currentTimeMillis() - 1);
+        store.register("live", "j1", inAnHour());
+        store.purgeExpired();
+
+        assertThat(store.size()).isEqualTo(1);
+
+        restart();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.isFamilyRevoked("old")).isFalse();
+    }
+}
@@ -0,0 +1,178 @@
+package com.nowgnodeel.todobe.todo.buffer;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import com.nowgnodeel.todobe.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoToggleBufferTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long TODO_ID = 1L;
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    private final AtomicReference<TodoResponseDto> row = new AtomicReference<>();
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+    private volatile CountDownLatch loadGate;
+    private TodoToggleBuffer buffer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        row.set(new TodoResponseDto(TODO_ID, "old", START, START.plusHours(1), IsDone.Uncompleted));
+        buffer = new TodoToggleBuffer(repository(), jdbcTemplate(), transactionManager(), event -> {
+        }, true, 500, dir.resolve("toggle.wal").toString(), true);
+        buffer.recover();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        buffer.shutdown();
+    }
+
+    @Test
+    void updateWaitsForToggleThatLoadedTheOldRow() throws Exception {
+        loadGate = new CountDownLatch(1);
+        Thread toggle = new Thread(() -> buffer.toggle(USER_ID, TODO_ID));
+        toggle.start();
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread update = new Thread(() -> buffer.writeThrough(USER_ID, () -> {
+            buffer.drainTodo(TODO_ID);
+            return row.updateAndGet(current -> rename(current, "renamed"));
+        }));
+        update.start();
+        update.join(200);
+        assertThat(update.isAlive()).isTrue();
+
+        loadGate.countDown();
+        toggle.join(5000);
+        update.join(5000);
+
+        TodoResponseDto stored = row.get();
+        assertThat(stored.title()).isEqualTo("renamed");
+        assertThat(stored.isDone()).isEqualTo(IsDone.Completed);
+        assertThat(buffer.overlay(stored)).isEqualTo(stored);
+    }
+
+    @Test
+    void toggleDuringUpdateLoadsTheCommittedRow() throws Exception {
+        CountDownLatch updating = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        Thread update = new Thread(() -> buffer.writeThrough(USER_ID, () -> {
+            buffer.drainTodo(TODO_ID);
+            updating.countDown();
+            await(commit);
+            return row.updateAndGet(current -> rename(current, "renamed"));
+        }));
+        update.start();
+        assertThat(updating.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<TodoResponseDto> toggled = new AtomicReference<>();
+        Thread toggle = new Thread(() -> toggled.set(buffer.toggle(USER_ID, TODO_ID)));
+        toggle.start();
+        toggle.join(200);
+        assertThat(toggle.isAlive()).isTrue();
+
+        commit.countDown();
+        update.join(5000);
+        toggle.join(5000);
+
+        assertThat(toggled.get().title()).isEqualTo("renamed");
+        assertThat(toggled.get().isDone()).isEqualTo(IsDone.Completed);
+        assertThat(buffer.overlay(row.get())).isEqualTo(toggled.get());
+    }
+
+    @Test
+    void drainWritesTheBufferedToggle() {
+        buffer.toggle(USER_ID, TODO_ID);
+        buffer.toggle(USER_ID, TODO_ID);
+        buffer.toggle(USER_ID, TODO_ID);
+        assertThat(row.get().isDone()).isEqualTo(IsDone.Uncompleted);
+
+        buffer.drainUser(USER_ID);
+
+        assertThat(row.get().isDone()).isEqualTo(IsDone.Completed);
+        assertThat(buffer.pendingStamp(USER_ID)).isEqualTo(0L);
+    }
+
+    private TodoRepository repository() {
+        return (TodoRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{TodoRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findDtoByIdAndUserId")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    TodoResponseDto loaded = row.get();
+                    loadStarted.countDown();
+                    if (loadGate != null) await(loadGate);
+                    return Optional.of(loaded);
+                });
+    }
+
+    private JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate() {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                for (Object[] args : batchArgs) {
+                    IsDone isDone = IsDone.valueOf((String) args[0]);
+                    row.updateAndGet(current -> new TodoResponseDto(current.id(), current.title(), current.start(), current.end(), isDone));
+                }
+                int[] counts = new int[batchArgs.size()];
+                Arrays.fill(counts, 1);
+                return counts;
+            }
+        };
+    }
+
+    private static PlatformTransactionManager transactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+    }
+
+    private static TodoResponseDto rename(TodoResponseDto todo, String title) {
+        return new TodoResponseDto(todo.id(), title, todo.start(), todo.end(), todo.isDone());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
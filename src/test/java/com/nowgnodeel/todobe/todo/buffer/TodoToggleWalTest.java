@@ -0,0 +1,136 @@
+package com.nowgnodeel.todobe.todo.buffer;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoToggleWalTest {
+
+    @TempDir
+    Path dir;
+
+    private TodoToggleWal wal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (wal != null) wal.close();
+    }
+
+    private TodoToggleWal open() throws IOException {
+        wal = new TodoToggleWal(dir.resolve("toggle.wal"), true);
+        wal.recover();
+        wal.open();
+        return wal;
+    }
+
+    private Map<Long, TodoToggleWal.Entry> reopen() throws IOException {
+        wal.close();
+        wal = null;
+        return new TodoToggleWal(dir.resolve("toggle.wal"), true).recover();
+    }
+
+    @Test
+    void replayKeepsLatestToggleAndDropsClearedTodos() throws IOException {
+        TodoToggleWal log = open();
+        log.appendToggle(1L, 10L, IsDone.Completed);
+        log.appendToggle(2L, 10L, IsDone.Completed);
+        log.appendToggle(1L, 10L, IsDone.Uncompleted);
+        log.appendToggle(3L, 20L, IsDone.Completed);
+        log.appendClear(2L);
+
+        assertThat(reopen()).isEqualTo(Map.of(
+                1L, new TodoToggleWal.Entry(10L, IsDone.Uncompleted),
+                3L, new TodoToggleWal.Entry(20L, IsDone.Completed)));
+    }
+
+    @Test
+    void replaysRotatedSegmentBeforeCurrentOne() throws IOException {
+        TodoToggleWal log = open();
+        log.appendToggle(1L, 10L, IsDone.Completed);
+        log.appendToggle(2L, 10L, IsDone.Completed);
+        log.rotate();
+        log.appendToggle(1L, 10L, IsDone.Uncompleted);
+
+        assertThat(reopen()).isEqualTo(Map.of(
+                1L, new TodoToggleWal.Entry(10L, IsDone.Uncompleted),
+                2L, new TodoToggleWal.Entry(10L, IsDone.Completed)));
+    }
+
+    @Test
+    void completedFlushForgetsRotatedSegment() throws IOException {
+        TodoToggleWal log = open();
+        log.appendToggle(1L, 10L, IsDone.Completed);
+        log.rotate();
+        log.appendToggle(2L, 10L, IsDone.Completed);
+        log.completeFlush();
+
+        assertThat(reopen()).isEqualTo(Map.of(2L, new TodoToggleWal.Entry(10L, IsDone.Completed)));
+    }
+
+    @Test
+    void ignoresTornTrailingLine() throws IOException {
+        TodoToggleWal log = open();
+        log.appendToggle(1L, 10L, IsDone.Completed);
+        log.close();
+        wal = null;
+        Files.writeString(dir.resolve("toggle.wal"), "T 2 10 Compl", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThat(new TodoToggleWal(dir.resolve("toggle.wal"), true).recover())
+                .isEqualTo(Map.of(1L, new TodoToggleWal.Entry(10L, IsDone.Completed)));
+    }
+
+    @Test
+    void truncateAllStartsEmpty() throws IOException {
+        TodoToggleWal log = open();
+        log.appendToggle(1L, 10L, IsDone.Completed);
+        log.rotate();
+        log.appendToggle(2L, 10L, IsDone.Completed);
+        log.truncateAll();
+
+        assertThat(reopen()).isEqualTo(Map.of());
+    }
+
+    @Test
+    void appendPositionsGrowAndAwaitDurableCoversThem() throws IOException {
+        TodoToggleWal log = open();
+        long first = log.appendToggle(1L, 10L, IsDone.Completed);
+        long second = log.appendClear(1L);
+        log.awaitDurable(second);
+        log.awaitDurable(first);
+
+        assertThat(first).isPositive();
+        assertThat(second).isGreaterThan(first);
+        assertThat(Files.readAllLines(dir.resolve("toggle.wal"), StandardCharsets.UTF_8))
+                .containsExactly("T 1 10 Completed", "C 1");
+    }
+
+    @Test
+    void concurrentAppendersAllSurviveReplay() throws Exception {
+        TodoToggleWal log = open();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            long base = t * 1000L;
+            threads.add(new Thread(() -> {
+                for (long i = 0; i < 100; i++) {
+                    log.awaitDurable(log.appendToggle(base + i, 10L, IsDone.Completed));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join();
+
+        assertThat(reopen().size()).isEqualTo(800);
+    }
+}
@@ -0,0 +1,90 @@
+package com.nowgnodeel.todobe.todo.common;
+
+import com.nowgnodeel.todobe.global.exception.ApiException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoSyncCursorTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 9, 0, 0, 123_456_000);
+
+    private static TodoSyncCursor row(int seconds, long id) {
+        return new TodoSyncCursor(T0.plusSeconds(seconds), false, id);
+    }
+
+    private static TodoSyncCursor tombstone(int seconds, long id) {
+        return new TodoSyncCursor(T0.plusSeconds(seconds), true, id);
+    }
+
+    @Test
+    void encodeRoundTrips() {
+        TodoSyncCursor cursor = tombstone(5, 42L);
+
+        assertThat(TodoSyncCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(TodoSyncCursor.decode(TodoSyncCursor.initial().encode())).isEqualTo(TodoSyncCursor.initial());
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> TodoSyncCursor.decode("not-a-cursor")).isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> TodoSyncCursor.decode(new TodoSyncCursor(T0, false, 1L).encode().substring(3)))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void ordersByTimeThenUpsertBeforeTombstoneThenId() {
+        assertThat(row(0, 9L).compareTo(row(1, 1L))).isLessThan(0);
+        assertThat(row(0, 9L).compareTo(tombstone(0, 1L))).isLessThan(0);
+        assertThat(row(0, 1L).compareTo(row(0, 2L))).isLessThan(0);
+        assertThat(tombstone(0, 3L).compareTo(tombstone(0, 3L))).isEqualTo(0);
+    }
+
+    @Test
+    void keysetBoundsDependOnCursorSide() {
+        TodoSyncCursor afterRow = row(0, 7L);
+        assertThat(afterRow.todoAfterId()).isEqualTo(7L);
+        assertThat(afterRow.tombstoneAfterId()).isEqualTo(0L);
+
+        TodoSyncCursor afterTombstone = tombstone(0, 7L);
+        assertThat(afterTombstone.todoAfterId()).isEqualTo(Long.MAX_VALUE);
+        assertThat(afterTombstone.tombstoneAfterId()).isEqualTo(7L);
+    }
+
+    @Test
+    void mergesBothStreamsInCursorOrder() {
+        List<TodoSyncCursor> rows = List.of(row(0, 1L), row(2, 2L), row(2, 5L));
+        List<TodoSyncCursor> tombstones = List.of(tombstone(0, 1L), tombstone(1, 3L), tombstone(2, 4L));
+
+        List<TodoSyncCursor> merged = TodoSyncCursor.merge(rows, tombstones, 10);
+
+        assertThat(merged).containsExactly(
+                row(0, 1L), tombstone(0, 1L), tombstone(1, 3L), row(2, 2L), row(2, 5L), tombstone(2, 4L));
+    }
+
+    @Test
+    void stopsAtPageSizeAndResumesWithoutGapsOrDuplicates() {
+        List<TodoSyncCursor> rows = List.of(row(0, 1L), row(1, 2L), row(1, 3L), row(3, 4L));
+        List<TodoSyncCursor> tombstones = List.of(tombstone(1, 2L), tombstone(2, 5L));
+
+        List<TodoSyncCursor> firstPage = TodoSyncCursor.merge(rows, tombstones, 3);
+        assertThat(firstPage).containsExactly(row(0, 1L), row(1, 2L), row(1, 3L));
+
+        TodoSyncCursor after = firstPage.get(firstPage.size() - 1);
+        List<TodoSyncCursor> secondPage = TodoSyncCursor.merge(
+                rows.stream().filter(k -> after.compareTo(k) < 0).toList(),
+                tombstones.stream().filter(k -> after.compareTo(k) < 0).toList(),
+                3);
+        assertThat(secondPage).containsExactly(tombstone(1, 2L), tombstone(2, 5L), row(3, 4L));
+    }
+
+    @Test
+    void mergesEmptyInputs() {
+        assertThat(TodoSyncCursor.merge(List.of(), List.of(), 5)).isEmpty();
+        assertThat(TodoSyncCursor.merge(List.of(), List.of(tombstone(0, 1L)), 5)).containsExactly(tombstone(0, 1L));
+    }
+}
@@ -0,0 +1,77 @@
+package com.nowgnodeel.todobe.todo.index;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoIntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void findsTodosOverlappingHalfOpenRange() {
+        TodoIntervalTree tree = TodoIntervalTree.of(List.of(
+                todo(1, 0, 2),
+                todo(2, 2, 4),
+                todo(3, 5, 6),
+                todo(4, -10, 10)));
+
+        assertThat(ids(tree.findOverlapping(at(2), at(5)))).containsExactly(4L, 1L, 2L);
+        assertThat(ids(tree.findOverlapping(at(6), at(7)))).containsExactly(4L, 3L);
+        assertThat(ids(tree.findOverlapping(at(11), at(12)))).isEmpty();
+    }
+
+    @Test
+    void withReplacesAndRemovesEntries() {
+        TodoIntervalTree tree = TodoIntervalTree.of(List.of(todo(1, 0, 1), todo(2, 3, 4)));
+
+        TodoIntervalTree moved = tree.with(todo(1, 0, 1), todo(1, 8, 9));
+        assertThat(moved.size()).isEqualTo(2);
+        assertThat(ids(moved.findOverlapping(at(0), at(2)))).isEmpty();
+        assertThat(ids(moved.findOverlapping(at(8), at(9)))).containsExactly(1L);
+
+        TodoIntervalTree removed = moved.with(todo(2, 3, 4), null);
+        assertThat(removed.size()).isEqualTo(1);
+        assertThat(ids(removed.findOverlapping(at(0), at(10)))).containsExactly(1L);
+    }
+
+    @Test
+    void matchesLinearScan() {
+        Random random = new Random(42);
+        List<TodoResponseDto> todos = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            int start = random.nextInt(1000);
+            todos.add(todo(id, start, start + random.nextInt(50)));
+        }
+        TodoIntervalTree tree = TodoIntervalTree.of(todos);
+
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(1000);
+            int to = from + 1 + random.nextInt(100);
+            List<Long> expected = todos.stream()
+                    .filter(todo -> todo.start().isBefore(at(to)) && !todo.end().isBefore(at(from)))
+                    .map(TodoResponseDto::id)
+                    .toList();
+            assertThat(ids(tree.findOverlapping(at(from), at(to)))).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static TodoResponseDto todo(long id, int startHour, int endHour) {
+        return new TodoResponseDto(id, "todo " + id, at(startHour), at(endHour), IsDone.Uncompleted);
+    }
+
+    private static LocalDateTime at(int hour) {
+        return BASE.plusHours(hour);
+    }
+
+    private static List<Long> ids(List<TodoResponseDto> todos) {
+        return todos.stream().map(TodoResponseDto::id).toList();
+    }
+}
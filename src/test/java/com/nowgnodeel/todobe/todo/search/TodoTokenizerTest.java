@@ -0,0 +1,46 @@
+package com.nowgnodeel.todobe.todo.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoTokenizerTest {
+
+    @Test
+    void splitsHangulIntoBigramsAndKeepsWords() {
+        assertThat(TodoTokenizer.terms("장보기 Milk 2L")).containsExactly("장보", "보기", "milk", "2l");
+    }
+
+    @Test
+    void keepsSingleHangulSyllableAsTerm() {
+        assertThat(TodoTokenizer.terms("책 읽기")).containsExactly("책", "읽기");
+    }
+
+    @Test
+    void normalizesWidthAndCase() {
+        assertThat(TodoTokenizer.normalize("ＡＢＣ Report")).isEqualTo("abc report");
+        assertThat(TodoTokenizer.terms("ＲＥＰＯＲＴ")).containsExactly("report");
+    }
+
+    @Test
+    void splitsOnPunctuationAndScriptBoundaries() {
+        assertThat(TodoTokenizer.terms("회의-notes,회의록")).containsExactly("회의", "notes", "의록");
+    }
+
+    @Test
+    void queryWordsAndSingleSyllablesArePrefixClauses() {
+        assertThat(TodoTokenizer.clauses("rep 책")).containsExactly(
+                new TodoTokenizer.Clause("rep", true), new TodoTokenizer.Clause("책", true));
+    }
+
+    @Test
+    void queryHangulRunsBecomeExactBigrams() {
+        assertThat(TodoTokenizer.clauses("장보기 장보기")).containsExactly(
+                new TodoTokenizer.Clause("장보", false), new TodoTokenizer.Clause("보기", false));
+    }
+
+    @Test
+    void blankQueryHasNoClauses() {
+        assertThat(TodoTokenizer.clauses(" -!? ")).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.nowgnodeel.todobe.todo.search;
+
+import com.nowgnodeel.todobe.todo.common.IsDone;
+import com.nowgnodeel.todobe.todo.dto.TodoResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserTermIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private static TodoResponseDto todo(long id, String title) {
+        return new TodoResponseDto(id, title, START, START.plusHours(1), IsDone.Uncompleted);
+    }
+
+    private static List<Long> search(UserTermIndex index, String query, int limit) {
+        return index.search(TodoTokenizer.clauses(query), TodoTokenizer.normalize(query), limit, 64)
+                .stream().map(TodoResponseDto::id).toList();
+    }
+
+    @Test
+    void requiresEveryClauseToMatch() {
+        UserTermIndex index = new UserTermIndex();
+        index.put(todo(1L, "weekly report draft"));
+        index.put(todo(2L, "weekly groceries"));
+        index.put(todo(3L, "report review"));
+
+        assertThat(search(index, "weekly report", 10)).containsExactly(1L);
+        assertThat(search(index, "missing", 10)).isEmpty();
+    }
+
+    @Test
+    void ranksExactTermsAboveTitlePrefixAboveLongerTitles() {
+        UserTermIndex index = new UserTermIndex();
+        index.put(todo(1L, "send the quarterly reports to finance"));
+        index.put(todo(2L, "report"));
+        index.put(todo(3L, "report for the team meeting"));
+
+        assertThat(search(index, "report", 10)).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void givesUpWhenPrefixExpandsPastLimit() {
+        UserTermIndex index = new UserTermIndex();
+        index.put(todo(1L, "repair bike"));
+        index.put(todo(2L, "report"));
+        index.put(todo(3L, "read book"));
+
+        assertThat(search(index, "rep", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search(TodoTokenizer.clauses("rep"), "rep", 10, 2)).hasSize(2);
+        assertThat(index.search(TodoTokenizer.clauses("rep"), "rep", 10, 1)).isNull();
+    }
+
+    @Test
+    void matchesHangulByBigrams() {
+        UserTermIndex index = new UserTermIndex();
+        index.put(todo(1L, "주간 회의록 정리"));
+        index.put(todo(2L, "회식 장소 예약"));
+
+        assertThat(search(index, "회의록", 10)).containsExactly(1L);
+        assertThat(search(index, "회", 10)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void returnsTopHitsWithinLimit() {
+        UserTermIndex index = new UserTermIndex();
+        StringBuilder title = new StringBuilder("task");
+        for (long id = 1; id <= 20; id++) {
+            title.append(" w").append(id);
+            index.put(todo(id, title.toString()));
+        }
+
+        assertThat(search(index, "task", 3)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void breaksTiesByNewestId() {
+        UserTermIndex index = new UserTermIndex();
+        index.put(todo(1L, "call mom"));
+        index.put(todo(2L, "call dad"));
+
+        assertThat(search(index, "call", 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void retitleAndRemoveUpdatePostings() {
+        UserTermIndex index = new UserTermIndex();
+        index.put(todo(1L, "buy milk"));
+        index.put(todo(1L, "buy bread"));
+
+        assertThat(search(index, "milk", 10)).isEmpty();
+        assertThat(search(index, "bread", 10)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(search(index, "buy", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(0);
+    }
+
+    @Test
+    void indexesAreIsolatedPerUser() {
+        UserTermIndex alice = new UserTermIndex();
+        UserTermIndex bob = new UserTermIndex();
+        alice.put(todo(1L, "dentist appointment"));
+        bob.put(todo(2L, "gym"));
+
+        assertThat(search(alice, "gym", 10)).isEmpty();
+        assertThat(search(bob, "gym", 10)).containsExactly(2L);
+    }
+}